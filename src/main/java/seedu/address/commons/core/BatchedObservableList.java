@@ -0,0 +1,108 @@
+package seedu.address.commons.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An {@code ObservableList} backed by an {@code ArrayList}, whose modifications can be grouped into batches.
+ *
+ * Modifications made between {@link #beginBatch()} and the matching {@link #endBatch()} are reported to listeners
+ * as a single {@code ListChangeListener.Change} when the batch ends, instead of one change per modification.
+ * Batches may be nested, in which case the changes are reported when the outermost batch ends.
+ */
+public class BatchedObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> backingList = new ArrayList<>();
+    private int batchDepth;
+
+    /**
+     * Starts a batch of modifications.
+     */
+    public void beginBatch() {
+        beginChange();
+        batchDepth++;
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}, reporting its modifications to listeners if it is
+     * the outermost batch.
+     *
+     * @throws IllegalStateException if there is no batch to end.
+     */
+    public void endBatch() {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("No batch to end");
+        }
+        batchDepth--;
+        endChange();
+    }
+
+    public boolean isInBatch() {
+        return batchDepth > 0;
+    }
+
+    @Override
+    public E get(int index) {
+        return backingList.get(index);
+    }
+
+    @Override
+    public int size() {
+        return backingList.size();
+    }
+
+    /**
+     * Replaces the contents of this list with {@code elements} in one step, rather than removing the current
+     * elements one at a time.
+     */
+    @Override
+    public boolean setAll(Collection<? extends E> elements) {
+        beginChange();
+        try {
+            removeAllElements();
+            backingList.addAll(elements);
+            nextAdd(0, backingList.size());
+            modCount++;
+            return true;
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public void clear() {
+        beginChange();
+        try {
+            removeAllElements();
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        backingList.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return backingList.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return backingList.remove(index);
+    }
+
+    private void removeAllElements() {
+        if (backingList.isEmpty()) {
+            return;
+        }
+        nextRemove(0, new ArrayList<>(backingList));
+        backingList.clear();
+        modCount++;
+    }
+}
@@ -1,10 +1,17 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -80,4 +87,51 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Replaces the contents of {@code file} with the bytes written by {@code writer}, creating the file and its
+     * missing parent directories if needed.
+     * The bytes are streamed to a temporary file in the same directory, which is forced to disk and then moved over
+     * {@code file}, so {@code file} never holds partially written contents.
+     *
+     * @throws IOException if the contents cannot be written. {@code file} is left unchanged in that case.
+     */
+    public static void writeAtomically(Path file, OutputWriter writer) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path tempFile = Files.createTempFile(directory, file.getFileName() + ".", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel)) {
+                    @Override
+                    public void close() throws IOException {
+                        // The channel is closed after its contents have been forced to disk
+                        flush();
+                    }
+                };
+                writer.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+
+            try {
+                Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Writes the contents of a file to an output stream.
+     */
+    @FunctionalInterface
+    public interface OutputWriter {
+        /**
+         * Writes the contents to {@code out}. Closing {@code out} is allowed but not required.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
 }
@@ -0,0 +1,112 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Month;
+import java.time.Year;
+import java.util.regex.Pattern;
+
+/**
+ * Helper functions for validating the values of model fields.
+ *
+ * The formats that are checked for every field of every record (digits, amounts, dates and times) are scanned by
+ * hand rather than with a regular expression. Other formats should be matched against a {@code Pattern} compiled
+ * once with {@link #compile(String)}, rather than with {@link String#matches(String)}, which compiles the regular
+ * expression again on every call.
+ */
+public class ValidationUtil {
+
+    private ValidationUtil() {} // prevents instantiation
+
+    /**
+     * Compiles {@code regex} into a pattern to be kept and used with {@link #matches(Pattern, String)}.
+     */
+    public static Pattern compile(String regex) {
+        requireNonNull(regex);
+        return Pattern.compile(regex);
+    }
+
+    /**
+     * Returns true if the whole of {@code test} matches {@code pattern}.
+     */
+    public static boolean matches(Pattern pattern, String test) {
+        requireNonNull(test);
+        return pattern.matcher(test).matches();
+    }
+
+    /**
+     * Returns true if {@code test} consists of between {@code minLength} and {@code maxLength} ASCII digits.
+     * Same as matching {@code \d{minLength,maxLength}}.
+     */
+    public static boolean isDigits(String test, int minLength, int maxLength) {
+        requireNonNull(test);
+        return test.length() >= minLength && test.length() <= maxLength && areDigits(test, 0, test.length());
+    }
+
+    /**
+     * Returns true if {@code test} is a number with up to {@code maxIntegerDigits} digits before an optional decimal
+     * point and up to {@code maxFractionDigits} digits after it.
+     * Same as matching {@code \d{1,maxIntegerDigits}(\.\d{1,maxFractionDigits})?}.
+     */
+    public static boolean isDecimal(String test, int maxIntegerDigits, int maxFractionDigits) {
+        requireNonNull(test);
+        int point = test.indexOf('.');
+        if (point < 0) {
+            return isDigits(test, 1, maxIntegerDigits);
+        }
+        int fractionDigits = test.length() - point - 1;
+        return point >= 1 && point <= maxIntegerDigits && areDigits(test, 0, point)
+                && fractionDigits >= 1 && fractionDigits <= maxFractionDigits
+                && areDigits(test, point + 1, test.length());
+    }
+
+    /**
+     * Returns true if {@code test} is a date in the format {@code dd-MM-yyyy} that exists in the calendar.
+     */
+    public static boolean isDate(String test) {
+        requireNonNull(test);
+        if (test.length() != 10 || test.charAt(2) != '-' || test.charAt(5) != '-'
+                || !areDigits(test, 0, 2) || !areDigits(test, 3, 5) || !areDigits(test, 6, 10)) {
+            return false;
+        }
+        int day = parseDigits(test, 0, 2);
+        int month = parseDigits(test, 3, 5);
+        int year = parseDigits(test, 6, 10);
+        return month >= 1 && month <= 12 && day >= 1 && day <= Month.of(month).length(Year.isLeap(year));
+    }
+
+    /**
+     * Returns true if {@code test} is a time in the format {@code H:mm} or {@code HH:mm} on a 24-hour clock.
+     */
+    public static boolean isTime(String test) {
+        requireNonNull(test);
+        int colon = test.length() - 3;
+        if (colon < 1 || colon > 2 || test.charAt(colon) != ':'
+                || !areDigits(test, 0, colon) || !areDigits(test, colon + 1, test.length())) {
+            return false;
+        }
+        return parseDigits(test, 0, colon) <= 23 && parseDigits(test, colon + 1, test.length()) <= 59;
+    }
+
+    /**
+     * Returns the number written with the ASCII digits in {@code test} from {@code start} until {@code end}.
+     * The characters in that range must have been checked to be digits.
+     */
+    public static int parseDigits(String test, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + (test.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    private static boolean areDigits(String test, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = test.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
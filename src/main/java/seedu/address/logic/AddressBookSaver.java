@@ -0,0 +1,126 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.storage.Storage;
+
+/**
+ * Saves address book snapshots to {@code Storage} on a background thread.
+ *
+ * Snapshots with the same data as the last requested one are not saved again. Requests made while a save is
+ * waiting to run replace the waiting snapshot, so a burst of changes results in a single write of the latest data.
+ * A failed write is kept until it is retrieved through {@link #takeFailure()} or {@link #flush()}, unless a later
+ * write succeeds first. Until a write succeeds again, every request is saved even if its data is unchanged, and
+ * {@link #flush()} retries the latest data once.
+ */
+public class AddressBookSaver {
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSaver.class);
+
+    private final Storage storage;
+    private final ExecutorService executor;
+    private final AtomicReference<AddressBookSnapshot> pending = new AtomicReference<>();
+    private final AtomicReference<IOException> failure = new AtomicReference<>();
+    private volatile boolean hasFailedWrite;
+    private AddressBookSnapshot lastRequested;
+
+    /**
+     * Creates a saver that writes to {@code storage}.
+     *
+     * @param savedData The data that is already in storage, which will not be saved again.
+     */
+    public AddressBookSaver(Storage storage, AddressBookSnapshot savedData) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.lastRequested = savedData;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules {@code data} to be saved, unless it has the same data as the last snapshot requested and no write
+     * has failed since.
+     * Must be called from a single thread, which {@link #flush()} must be called from as well.
+     */
+    public void requestSave(AddressBookSnapshot data) {
+        requireNonNull(data);
+        if (!hasFailedWrite && data.hasSameDataAs(lastRequested)) {
+            return;
+        }
+        lastRequested = data;
+        schedule(data);
+    }
+
+    /**
+     * Returns and clears the error from the most recent failed write, if any.
+     */
+    public Optional<IOException> takeFailure() {
+        return Optional.ofNullable(failure.getAndSet(null));
+    }
+
+    /**
+     * Blocks until all requested snapshots have been written.
+     *
+     * @throws IOException if the most recent write failed and its error has not been retrieved yet.
+     */
+    public void flush() throws IOException {
+        awaitWrites();
+        if (hasFailedWrite) {
+            logger.info("Retrying to save address book");
+            schedule(lastRequested);
+            awaitWrites();
+        }
+
+        Optional<IOException> error = takeFailure();
+        if (error.isPresent()) {
+            throw error.get();
+        }
+    }
+
+    private void schedule(AddressBookSnapshot data) {
+        if (pending.getAndSet(data) == null) {
+            executor.execute(this::savePending);
+        }
+    }
+
+    private void awaitWrites() {
+        Future<?> done = executor.submit(() -> { });
+        try {
+            done.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task should not fail.", e);
+        }
+    }
+
+    private void savePending() {
+        AddressBookSnapshot data = pending.getAndSet(null);
+        if (data == null) {
+            return;
+        }
+
+        try {
+            storage.saveAddressBook(data);
+            hasFailedWrite = false;
+            failure.set(null);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book: " + e.getMessage());
+            hasFailedWrite = true;
+            failure.set(e);
+        }
+    }
+}
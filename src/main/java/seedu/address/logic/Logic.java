@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -32,6 +33,18 @@ public interface Logic {
      */
     CommandResult execute(seedu.address.logic.commands.Command command) throws CommandException;
 
+    /**
+     * Waits until all changes made by executed commands have been saved.
+     * @throws CommandException If an error occurred while saving the changes.
+     */
+    void flush() throws CommandException;
+
+    /**
+     * Returns and clears the message of the error from the most recent failed save of changes, if any.
+     * Saves run in the background, so a failure is found after the command that made the changes has completed.
+     */
+    Optional<String> takeSaveFailure();
+
     /**
      * Returns the AddressBook.
      *
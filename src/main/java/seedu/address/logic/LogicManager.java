@@ -3,6 +3,7 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -20,6 +21,8 @@ import seedu.address.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ * Changes made by commands are saved to storage in the background, so command latency does not depend on the size
+ * of the data file.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_FORMAT = "Could not save data due to the following error: %s";
@@ -30,7 +33,7 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final AddressBookSaver saver;
     private final AddressBookParser addressBookParser;
 
     /**
@@ -38,7 +41,7 @@ public class LogicManager implements Logic {
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
-        this.storage = storage;
+        this.saver = new AddressBookSaver(storage, model.getAddressBookSnapshot());
         addressBookParser = new AddressBookParser();
     }
 
@@ -50,14 +53,7 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
-        }
-
+        saveChanges(commandResult);
         return commandResult;
     }
 
@@ -67,15 +63,44 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult = command.execute(model);
 
+        saveChanges(commandResult);
+        return commandResult;
+    }
+
+    @Override
+    public void flush() throws CommandException {
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            saver.flush();
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw toCommandException(ioe);
         }
+    }
 
-        return commandResult;
+    @Override
+    public Optional<String> takeSaveFailure() {
+        return saver.takeFailure().map(ioe -> toCommandException(ioe).getMessage());
+    }
+
+    /**
+     * Schedules the address book to be saved in the background if {@code commandResult}'s command changed it.
+     * The save is completed before returning if the command exits the app.
+     * Failures of saves in the background are reported through {@link #takeSaveFailure()} instead, as they do not
+     * affect the result of the command.
+     *
+     * @throws CommandException if the command exits the app and the save failed.
+     */
+    private void saveChanges(CommandResult commandResult) throws CommandException {
+        saver.requestSave(model.getAddressBookSnapshot());
+        if (commandResult.isExit()) {
+            flush();
+        }
+    }
+
+    private static CommandException toCommandException(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage()), ioe);
+        }
+        return new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
     }
 
     @Override
@@ -7,7 +7,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
 
-import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -61,7 +61,7 @@ public class AddEventCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        if (toAdd.getDate().isInPast(toAdd.getTime().value)) {
+        if (toAdd.getDate().isInPast(toAdd.getTime())) {
             throw new CommandException("Events cannot be scheduled in the past.");
         }
 
@@ -70,8 +70,8 @@ public class AddEventCommand extends Command {
         }
         model.saveStateForUndo("add party " + toAdd.getName().fullName);
         List<Person> lastShownPersonList = model.getFilteredPersonList();
-        List<PersonId> assignedPersonIds = new ArrayList<>(toAdd.getParticipants());
-        double currentRemainingBudget = Double.parseDouble(toAdd.getInitialBudget().value);
+        Set<PersonId> assignedPersonIds = new LinkedHashSet<>(toAdd.getParticipants());
+        long currentRemainingBudget = toAdd.getInitialBudget().getCents();
 
         if (contactIndexes != null && !contactIndexes.isEmpty()) {
             for (Index index : contactIndexes) {
@@ -84,7 +84,7 @@ public class AddEventCommand extends Command {
                             + " has already been assigned to this party.");
                 }
                 validateNoConcurrentEvents(model, toAdd, personToAssign.getId(), personToAssign.getName().toString());
-                double personBudget = Double.parseDouble(personToAssign.getBudget().value);
+                long personBudget = personToAssign.getBudget().getCents();
                 if (currentRemainingBudget < personBudget) {
                     throw new CommandException("The budget of " + personToAssign.getName().toString()
                             + " exceeds the remaining budget of the party.");
@@ -94,8 +94,8 @@ public class AddEventCommand extends Command {
             }
         }
         Event newEvent = new Event(toAdd.getName(), toAdd.getDate(), toAdd.getTime(),
-                new ArrayList<>(assignedPersonIds),
-                toAdd.getInitialBudget(), new Budget(String.valueOf(currentRemainingBudget)));
+                assignedPersonIds,
+                toAdd.getInitialBudget(), Budget.ofCents(currentRemainingBudget));
         model.addEvent(newEvent);
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(newEvent)));
     }
@@ -123,12 +123,12 @@ public class AddEventCommand extends Command {
     }
     /**
      * Validates no concurrent events for a person on the same date.
+     * Only the events on the same date are checked, regardless of the current event filter.
      */
     public static void validateNoConcurrentEvents(Model model, Event targetEvent, PersonId personId, String personName)
             throws CommandException {
-        for (Event existingEvent : model.getFilteredEventList()) {
+        for (Event existingEvent : model.getEventsOn(targetEvent.getDate().toLocalDate())) {
             if (!existingEvent.equals(targetEvent)
-                    && existingEvent.getDate().equals(targetEvent.getDate())
                     && existingEvent.getParticipants().contains(personId)) {
                 throw new CommandException(personName + " is already assigned to another party on the same date.");
             }
@@ -5,6 +5,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTACT;
 import static seedu.address.logic.parser.ParserUtil.parsePersonListToString;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.logging.Logger;
@@ -15,6 +16,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.ParticipantSet;
 import seedu.address.model.person.Budget;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonId;
@@ -69,29 +71,29 @@ public class AssignContactToEventCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_EVENT_DISPLAYED_INDEX);
         }
         Event eventToModify = lastShownEventList.get(targetEventIndex.getZeroBased());
-        double eventBudget = parseBudgetSafe(eventToModify.getRemainingBudget().value);
+        long eventBudget = eventToModify.getRemainingBudget().getCents();
         List<Person> lastShownList = model.getFilteredPersonList();
 
         List<Person> newContactsAssignedToEvent = collectAndValidatePersons(lastShownList, eventToModify, eventBudget);
 
-        // Build updated participant list
-        List<PersonId> updatedParticipantIds = new ArrayList<>(eventToModify.getParticipants());
+        // Build updated participant set
+        Set<PersonId> newParticipantIds = new HashSet<>();
         for (Person p : newContactsAssignedToEvent) {
-            if (updatedParticipantIds.contains(p.getId())) {
+            if (!newParticipantIds.add(p.getId())) {
                 throw new CommandException(p.getName().toString() + " has already been assigned to this party.");
             }
             AddEventCommand.validateNoConcurrentEvents(model, eventToModify, p.getId(), p.getName().toString());
-            updatedParticipantIds.add(p.getId());
         }
+        ParticipantSet updatedParticipantIds = eventToModify.getParticipants().withAll(newParticipantIds);
 
         // compute remaining budget after assignments
-        double remainingBudget = eventBudget;
+        long remainingBudget = eventBudget;
         for (Person p : newContactsAssignedToEvent) {
-            remainingBudget -= parseBudgetSafe(p.getBudget().value);
+            remainingBudget -= p.getBudget().getCents();
         }
 
         Event newEvent = new Event(eventToModify.getName(), eventToModify.getDate(), eventToModify.getTime(),
-                updatedParticipantIds, eventToModify.getInitialBudget(), new Budget(String.valueOf(remainingBudget)));
+                updatedParticipantIds, eventToModify.getInitialBudget(), Budget.ofCents(remainingBudget));
         model.setEvent(eventToModify, newEvent);
         String assignedPersonNames = parsePersonListToString(newContactsAssignedToEvent);
         logger.info(() -> String.format("Assigned %s to event %s", assignedPersonNames, eventToModify.getName()));
@@ -99,18 +101,10 @@ public class AssignContactToEventCommand extends Command {
                 eventToModify.getName().toString(), assignedPersonNames));
     }
 
-    private double parseBudgetSafe(String budgetString) throws CommandException {
-        try {
-            return Double.parseDouble(budgetString);
-        } catch (NumberFormatException e) {
-            throw new CommandException("Invalid budget value encountered: " + budgetString);
-        }
-    }
-
     /**
      * Collects persons to be assigned and validates indexes and budget constraints.
      */
-    private List<Person> collectAndValidatePersons(List<Person> lastShownList, Event eventToModify, double eventBudget)
+    private List<Person> collectAndValidatePersons(List<Person> lastShownList, Event eventToModify, long eventBudget)
             throws CommandException {
         List<Person> result = new ArrayList<>();
         for (Index i : assignedPersonIndexList) {
@@ -123,7 +117,7 @@ public class AssignContactToEventCommand extends Command {
                 throw new CommandException(personToAdd.getName().toString()
                         + " has already been assigned to this party.");
             }
-            double personBudget = parseBudgetSafe(personToAdd.getBudget().value);
+            long personBudget = personToAdd.getBudget().getCents();
             if (eventBudget < personBudget) {
                 throw new CommandException("The budget of " + personToAdd.getName().toString()
                         + " exceeds the remaining budget of the party.");
@@ -0,0 +1,157 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTACT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT;
+import static seedu.address.logic.parser.ParserUtil.parsePersonListToString;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Budget;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+
+/**
+ * Assigns contacts to several events (parties) at once.
+ *
+ * All assignments are checked before any is made, so either all of them are made or none are. They are undone
+ * together as one operation.
+ */
+public class BulkAssignCommand extends Command {
+    public static final String COMMAND_WORD = "bulkassign";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Assigns contacts to several parties at once, "
+            + "where the parties and contacts are identified by their index numbers. "
+            + "The contacts after each " + PREFIX_CONTACT + " are assigned to the party of the "
+            + PREFIX_EVENT + " before it.\n"
+            + "Parameters: " + PREFIX_EVENT + "PARTY_INDEX " + PREFIX_CONTACT + "CONTACT_INDEXES "
+            + "[" + PREFIX_EVENT + "PARTY_INDEX " + PREFIX_CONTACT + "CONTACT_INDEXES]...\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_EVENT + "1 " + PREFIX_CONTACT + "1,2,3 "
+            + PREFIX_EVENT + "2 " + PREFIX_CONTACT + "4,5";
+
+    public static final String MESSAGE_BULK_ASSIGN_SUCCESS = "Assigned contacts to %1$d parties:\n%2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(BulkAssignCommand.class);
+
+    private final Map<Index, Set<Index>> assignments;
+
+    /**
+     * Constructs a BulkAssignCommand.
+     *
+     * @param assignments The indexes of the persons to assign to each event, by the index of the event.
+     */
+    public BulkAssignCommand(Map<Index, Set<Index>> assignments) {
+        requireNonNull(assignments);
+        this.assignments = new LinkedHashMap<>(assignments);
+    }
+
+    /**
+     * Executes the assignments of contacts to events.
+     *
+     * Each person is checked against the participants of the other events on the same date, which are looked up
+     * once for each date rather than for each person, and against the assignments made earlier in this command.
+     *
+     * @param model The model in which the command operates.
+     * @return CommandResult of the assignments.
+     * @throws CommandException if any index is invalid, or any assignment would not be allowed by {@code assign}.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        logger.fine(() -> "Executing BulkAssignCommand for " + assignments.size() + " parties");
+        List<Event> lastShownEventList = model.getFilteredEventList();
+        List<Person> lastShownPersonList = model.getFilteredPersonList();
+
+        Map<LocalDate, Set<PersonId>> participantsByDate = new HashMap<>();
+        Map<Event, Event> editedEvents = new LinkedHashMap<>();
+        StringBuilder assignedNames = new StringBuilder();
+        for (Map.Entry<Index, Set<Index>> assignment : assignments.entrySet()) {
+            Index eventIndex = assignment.getKey();
+            if (eventIndex.getZeroBased() >= lastShownEventList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_EVENT_DISPLAYED_INDEX);
+            }
+            Event event = lastShownEventList.get(eventIndex.getZeroBased());
+            Set<PersonId> participantsOnDate = participantsByDate.computeIfAbsent(
+                    event.getDate().toLocalDate(), date -> getParticipantsOn(model, date));
+
+            List<Person> persons = new ArrayList<>();
+            Set<PersonId> newParticipantIds = new HashSet<>();
+            long remainingBudget = event.getRemainingBudget().getCents();
+            for (Index personIndex : assignment.getValue()) {
+                if (personIndex.getZeroBased() >= lastShownPersonList.size()) {
+                    throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX + " "
+                            + Messages.MESSAGE_TRY_PERSON_LIST_MODE);
+                }
+                Person person = lastShownPersonList.get(personIndex.getZeroBased());
+                String name = person.getName().toString();
+                if (event.getParticipants().contains(person.getId())) {
+                    throw new CommandException(name + " has already been assigned to " + event.getName() + "'s party.");
+                }
+                if (!participantsOnDate.add(person.getId())) {
+                    throw new CommandException(name + " is already assigned to another party on the same date as "
+                            + event.getName() + "'s party.");
+                }
+                long personBudget = person.getBudget().getCents();
+                if (remainingBudget < personBudget) {
+                    throw new CommandException("The budget of " + name + " exceeds the remaining budget of "
+                            + event.getName() + "'s party.");
+                }
+                remainingBudget -= personBudget;
+                newParticipantIds.add(person.getId());
+                persons.add(person);
+            }
+
+            editedEvents.put(event, new Event(event.getName(), event.getDate(), event.getTime(),
+                    event.getParticipants().withAll(newParticipantIds), event.getInitialBudget(),
+                    Budget.ofCents(remainingBudget)));
+            assignedNames.append(event.getName()).append(": ").append(parsePersonListToString(persons)).append('\n');
+        }
+
+        model.saveStateForUndo("assign to " + assignments.size() + " parties");
+        model.setEvents(editedEvents);
+        logger.info(() -> String.format("Assigned contacts to %d parties", editedEvents.size()));
+        return new CommandResult(String.format(MESSAGE_BULK_ASSIGN_SUCCESS,
+                editedEvents.size(), assignedNames.toString().trim()));
+    }
+
+    /**
+     * Returns the ids of the persons participating in any event on {@code date}, regardless of the current filter.
+     */
+    private static Set<PersonId> getParticipantsOn(Model model, LocalDate date) {
+        Set<PersonId> participants = new HashSet<>();
+        for (Event event : model.getEventsOn(date)) {
+            participants.addAll(event.getParticipants());
+        }
+        return participants;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BulkAssignCommand)) {
+            return false;
+        }
+
+        BulkAssignCommand otherBulkAssignCommand = (BulkAssignCommand) other;
+        return assignments.equals(otherBulkAssignCommand.assignments);
+    }
+}
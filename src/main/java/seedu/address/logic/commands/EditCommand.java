@@ -89,57 +89,53 @@ public class EditCommand extends Command {
 
         // Check if budget has changed and update associated events
         if (!personToEdit.getBudget().equals(editedPerson.getBudget())) {
-            List<seedu.address.model.event.Event> allEvents = model.getAddressBook().getEventList();
-            for (seedu.address.model.event.Event event : allEvents) {
-                boolean isParticipant = event.getParticipants().contains(personToEdit.getId());
+            for (seedu.address.model.event.Event event : model.getEventsOfPerson(personToEdit.getId())) {
+                long newBudget = editedPerson.getBudget().getCents();
+                long initialEventBudget = event.getInitialBudget().getCents();
+                long totalBudgetOfOtherParticipants = 0;
 
-                if (isParticipant) {
-                    double newBudget = Double.parseDouble(editedPerson.getBudget().value);
-                    double initialEventBudget = Double.parseDouble(event.getInitialBudget().value);
-                    double totalBudgetOfOtherParticipants = 0;
-
-                    for (PersonId participantId : event.getParticipants()) {
-                        if (!participantId.equals(personToEdit.getId())) {
-                            Optional<Person> participant = model.getPersonById(participantId);
-                            if (participant.isPresent()) {
-                                totalBudgetOfOtherParticipants +=
-                                        Double.parseDouble(participant.get().getBudget().value);
-                            }
+                for (PersonId participantId : event.getParticipants()) {
+                    if (!participantId.equals(personToEdit.getId())) {
+                        Optional<Person> participant = model.getPersonById(participantId);
+                        if (participant.isPresent()) {
+                            totalBudgetOfOtherParticipants += participant.get().getBudget().getCents();
                         }
                     }
+                }
 
-                    if (totalBudgetOfOtherParticipants + newBudget > initialEventBudget) {
-                        throw new CommandException("Editing budget failed: New budget exceeds event budget limit. "
-                                + "Please unassign the person from the party first before editing their budget.");
-                    }
+                if (totalBudgetOfOtherParticipants + newBudget > initialEventBudget) {
+                    throw new CommandException("Editing budget failed: New budget exceeds event budget limit. "
+                            + "Please unassign the person from the party first before editing their budget.");
                 }
             }
         }
 
         model.saveStateForUndo("edit " + personToEdit.getName().fullName);
-        model.setPerson(personToEdit, editedPerson);
-
-        if (!personToEdit.getBudget().equals(editedPerson.getBudget())) {
-            List<seedu.address.model.event.Event> allEvents = model.getAddressBook().getEventList();
-            for (seedu.address.model.event.Event event : allEvents) {
-                boolean isParticipant = event.getParticipants().contains(editedPerson.getId());
-                if (isParticipant) {
-                    double totalParticipantBudget = 0;
+        // The edited person and the events with their budget are updated as one change to each list
+        model.beginBatch();
+        try {
+            model.setPerson(personToEdit, editedPerson);
+
+            if (!personToEdit.getBudget().equals(editedPerson.getBudget())) {
+                // getEventsOfPerson returns a copy, so the events can be replaced while iterating
+                for (seedu.address.model.event.Event event : model.getEventsOfPerson(editedPerson.getId())) {
+                    long totalParticipantBudget = 0;
                     for (PersonId participantId : event.getParticipants()) {
                         Optional<Person> participant = model.getPersonById(participantId);
                         if (participant.isPresent()) {
-                            totalParticipantBudget += Double.parseDouble(participant.get().getBudget().value);
+                            totalParticipantBudget += participant.get().getBudget().getCents();
                         }
                     }
-                    double newRemainingBudget =
-                            Double.parseDouble(event.getInitialBudget().value) - totalParticipantBudget;
+                    long newRemainingBudget = event.getInitialBudget().getCents() - totalParticipantBudget;
                     seedu.address.model.event.Event updatedEvent = new seedu.address.model.event.Event(
                             event.getName(), event.getDate(), event.getTime(),
                             event.getParticipants(), event.getInitialBudget(),
-                            new Budget(String.valueOf(newRemainingBudget)));
+                            Budget.ofCents(newRemainingBudget));
                     model.setEvent(event, updatedEvent);
                 }
             }
+        } finally {
+            model.commitBatch();
         }
 
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
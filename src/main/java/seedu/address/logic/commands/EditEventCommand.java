@@ -74,7 +74,7 @@ public class EditEventCommand extends Command {
 
         Event eventToEdit = lastShownList.get(index.getZeroBased());
         Event editedEvent = createEditedEvent(eventToEdit, editEventDescriptor);
-        if (editedEvent.getDate().isInPast(editedEvent.getTime().value)) {
+        if (editedEvent.getDate().isInPast(editedEvent.getTime())) {
             throw new CommandException("Events cannot be scheduled in the past. "
                     + "Please choose a date and time that is now or in the future.");
         }
@@ -102,17 +102,14 @@ public class EditEventCommand extends Command {
         Budget updatedRemainingBudget;
 
         if (editEventDescriptor.getBudget().isPresent()) {
-            double oldInitialBudget = Double.parseDouble(eventToEdit.getInitialBudget().value);
-            double oldRemainingBudget = Double.parseDouble(eventToEdit.getRemainingBudget().value);
-            double assignedBudgetsSum = oldInitialBudget - oldRemainingBudget;
-
-            double newInitialBudget = Double.parseDouble(updatedInitialBudget.value);
-            double newRemainingBudget = newInitialBudget - assignedBudgetsSum;
+            long assignedBudgetsSum = eventToEdit.getInitialBudget().getCents()
+                    - eventToEdit.getRemainingBudget().getCents();
+            long newRemainingBudget = updatedInitialBudget.getCents() - assignedBudgetsSum;
 
             if (newRemainingBudget < 0) {
                 throw new CommandException("The new budget is less than the total budget of assigned contacts.");
             }
-            updatedRemainingBudget = new Budget(String.valueOf(newRemainingBudget));
+            updatedRemainingBudget = Budget.ofCents(newRemainingBudget);
         } else {
             updatedRemainingBudget = eventToEdit.getRemainingBudget();
         }
@@ -0,0 +1,38 @@
+package seedu.address.logic.commands;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Redoes the most recent command that was undone.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Redoes the most recent command that was undone.";
+
+    public static final String MESSAGE_SUCCESS = "Undone command redone: %1$s";
+    public static final String MESSAGE_NO_COMMAND_TO_REDO = "No command to redo.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        if (!model.canRedo()) {
+            throw new CommandException(MESSAGE_NO_COMMAND_TO_REDO);
+        }
+
+        String redoDescription = model.redo();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, redoDescription));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        return other instanceof RedoCommand;
+    }
+}
@@ -5,6 +5,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTACT;
 import static seedu.address.logic.parser.ParserUtil.parsePersonListToString;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.logging.Logger;
@@ -15,6 +16,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.ParticipantSet;
 import seedu.address.model.person.Budget;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonId;
@@ -69,25 +71,26 @@ public class UnassignContactFromEventCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_EVENT_DISPLAYED_INDEX);
         }
         Event eventToModify = lastShownEventList.get(targetEventIndex.getZeroBased());
-        double eventBudget = parseBudgetSafe(eventToModify.getRemainingBudget().value);
+        long eventBudget = eventToModify.getRemainingBudget().getCents();
         List<Person> lastShownList = model.getFilteredPersonList();
 
         List<Person> contactsToUnassign = collectPersonsToUnassign(lastShownList);
 
-        List<PersonId> updatedParticipantIds = new ArrayList<>(eventToModify.getParticipants());
+        ParticipantSet participantIds = eventToModify.getParticipants();
+        Set<PersonId> removedParticipantIds = new HashSet<>();
         for (Person p : contactsToUnassign) {
-            if (!updatedParticipantIds.contains(p.getId())) {
+            if (!participantIds.contains(p.getId()) || !removedParticipantIds.add(p.getId())) {
                 throw new CommandException(p.getName().toString() + " is not assigned to this party.");
             }
-            updatedParticipantIds.remove(p.getId());
             // add back to budget
-            eventBudget += parseBudgetSafe(p.getBudget().value);
+            eventBudget += p.getBudget().getCents();
             // cap at initial budget
-            eventBudget = Math.min(eventBudget, parseBudgetSafe(eventToModify.getInitialBudget().value));
+            eventBudget = Math.min(eventBudget, eventToModify.getInitialBudget().getCents());
         }
 
+        ParticipantSet updatedParticipantIds = participantIds.withoutAll(removedParticipantIds);
         Event newEvent = new Event(eventToModify.getName(), eventToModify.getDate(), eventToModify.getTime(),
-                updatedParticipantIds, eventToModify.getInitialBudget(), new Budget(String.valueOf(eventBudget)));
+                updatedParticipantIds, eventToModify.getInitialBudget(), Budget.ofCents(eventBudget));
         model.setEvent(eventToModify, newEvent);
         String unassignedPersonNames = parsePersonListToString(contactsToUnassign);
         logger.info(() -> String.format("Unassigned %s from event %s", unassignedPersonNames, eventToModify.getName()));
@@ -95,14 +98,6 @@ public class UnassignContactFromEventCommand extends Command {
                 eventToModify.getName().toString(), unassignedPersonNames));
     }
 
-    private double parseBudgetSafe(String budgetString) throws CommandException {
-        try {
-            return Double.parseDouble(budgetString);
-        } catch (NumberFormatException e) {
-            throw new CommandException("Invalid budget value encountered: " + budgetString);
-        }
-    }
-
     private List<Person> collectPersonsToUnassign(List<Person> lastShownList)
             throws CommandException {
         List<Person> result = new ArrayList<>();
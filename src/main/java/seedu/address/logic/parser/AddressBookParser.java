@@ -9,6 +9,7 @@ import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BulkAssignCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
@@ -18,6 +19,7 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListTagCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -94,12 +96,17 @@ public class AddressBookParser {
         case UndoCommand.COMMAND_WORD:
             return new UndoCommand();
 
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         case seedu.address.logic.commands.ViewCommand.COMMAND_WORD:
             return new seedu.address.logic.parser.ViewCommandParser().parse(arguments);
         case seedu.address.logic.commands.AssignContactToEventCommand.COMMAND_WORD:
             return new seedu.address.logic.parser.AssignContactToEventCommandParser().parse(arguments);
         case seedu.address.logic.commands.UnassignContactFromEventCommand.COMMAND_WORD:
             return new seedu.address.logic.parser.UnassignContactFromEventCommandParser().parse(arguments);
+        case BulkAssignCommand.COMMAND_WORD:
+            return new BulkAssignCommandParser().parse(arguments);
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
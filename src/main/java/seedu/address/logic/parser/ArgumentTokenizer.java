@@ -28,6 +28,20 @@ public class ArgumentTokenizer {
         return extractArguments(argsString, positions);
     }
 
+    /**
+     * Returns the given prefixes in the order they occur in the arguments string, once for every occurrence.
+     * Only the given prefixes will be recognized in the arguments string.
+     *
+     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
+     * @param prefixes   Prefixes to find in the arguments string
+     * @return           List of the prefixes that occur in the arguments string, in order of occurrence
+     */
+    public static List<Prefix> findPrefixOrder(String argsString, Prefix... prefixes) {
+        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
+        positions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
+        return positions.stream().map(PrefixPosition::getPrefix).collect(Collectors.toList());
+    }
+
     /**
      * Finds all zero-based prefix positions in the given arguments string.
      *
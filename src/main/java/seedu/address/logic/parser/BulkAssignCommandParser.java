@@ -0,0 +1,79 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_NO_CONTACTS_SPECIFIED;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTACT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT;
+import static seedu.address.logic.parser.ParserUtil.parseContactIndexes;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.BulkAssignCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses user input for assigning contacts to several events at once.
+ */
+public class BulkAssignCommandParser implements Parser<BulkAssignCommand> {
+
+    public static final String MESSAGE_DUPLICATE_PARTY = "Party %1$d is listed more than once.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BulkAssignCommand
+     * and returns a BulkAssignCommand object for execution.
+     * Each list of contact indexes is assigned to the party index right before it, so the party and contact
+     * prefixes must alternate, starting with a party.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public BulkAssignCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap multimap = ArgumentTokenizer.tokenize(args, PREFIX_EVENT, PREFIX_CONTACT);
+        List<String> eventIndexes = multimap.getAllValues(PREFIX_EVENT);
+        List<String> personIndexes = multimap.getAllValues(PREFIX_CONTACT);
+        if (!multimap.getPreamble().isEmpty() || eventIndexes.isEmpty()
+                || eventIndexes.size() != personIndexes.size()
+                || !isAlternating(ArgumentTokenizer.findPrefixOrder(args, PREFIX_EVENT, PREFIX_CONTACT))) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BulkAssignCommand.MESSAGE_USAGE));
+        }
+
+        Map<Index, Set<Index>> assignments = new LinkedHashMap<>();
+        for (int i = 0; i < eventIndexes.size(); i++) {
+            Index eventIndex;
+            try {
+                eventIndex = ParserUtil.parseIndex(eventIndexes.get(i));
+            } catch (ParseException pe) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        BulkAssignCommand.MESSAGE_USAGE), pe);
+            }
+            Set<Index> personIndexSet = parseContactIndexes(personIndexes.get(i));
+            if (personIndexSet.isEmpty()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        MESSAGE_NO_CONTACTS_SPECIFIED));
+            }
+            if (assignments.put(eventIndex, personIndexSet) != null) {
+                throw new ParseException(String.format(MESSAGE_DUPLICATE_PARTY, eventIndex.getOneBased()));
+            }
+        }
+        return new BulkAssignCommand(assignments);
+    }
+
+    /**
+     * Returns true if {@code prefixOrder} alternates between the party and contact prefixes, starting with a party.
+     */
+    private static boolean isAlternating(List<Prefix> prefixOrder) {
+        for (int i = 0; i < prefixOrder.size(); i++) {
+            Prefix expected = i % 2 == 0 ? PREFIX_EVENT : PREFIX_CONTACT;
+            if (!prefixOrder.get(i).equals(expected)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -15,6 +15,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_DATE = new Prefix("d/");
     public static final Prefix PREFIX_TIME = new Prefix("t/");
     public static final Prefix PREFIX_CONTACT = new Prefix("c/");
+    public static final Prefix PREFIX_EVENT = new Prefix("e/");
     public static final Prefix PREFIX_BUDGET = new Prefix("b/");
 
 }
@@ -1,14 +1,19 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.event.UniqueEventList;
+import seedu.address.model.person.NameAndTagContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -57,22 +62,53 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
-
-        // Deep copy persons
-        List<Person> newPersons = new ArrayList<>();
-        for (Person p : newData.getPersonList()) {
-            newPersons.add(new Person(p.getId(), p.getName(), p.getPhone(), p.getEmail(),
-                    p.getWebsite(), p.getTags(), p.getBudget()));
+        if (newData == this) {
+            return;
         }
-        setPersons(newPersons);
 
-        // Deep copy events
-        List<seedu.address.model.event.Event> newEvents = new ArrayList<>();
-        for (seedu.address.model.event.Event e : newData.getEventList()) {
-            newEvents.add(new seedu.address.model.event.Event(e.getName(), e.getDate(), e.getTime(),
-                    e.getParticipants(), e.getInitialBudget(), e.getRemainingBudget()));
+        // Persons and events are immutable, so they can be shared with newData instead of copied
+        setPersons(newData.getPersonList());
+        setEvents(newData.getEventList());
+    }
+
+    /**
+     * Returns a snapshot of the current persons and events, described by {@code operationDescription}.
+     * A list that has not changed since the previous snapshot is shared with it instead of being copied.
+     */
+    public AddressBookSnapshot createSnapshot(String operationDescription) {
+        return new AddressBookSnapshot(persons.asFrozenList(), events.asFrozenList(), operationDescription);
+    }
+
+    /**
+     * Replaces the contents of this {@code AddressBook} with the persons and events in {@code snapshot}.
+     * The snapshot data is already known to be unique, so it is neither checked for duplicates nor copied.
+     */
+    public void restoreSnapshot(AddressBookSnapshot snapshot) {
+        requireNonNull(snapshot);
+        persons.restoreFrozenList(snapshot.getPersons());
+        events.restoreFrozenList(snapshot.getEvents());
+    }
+
+    /**
+     * Starts a batch of modifications. Until the matching {@link #endBatch()}, listeners of the person and event
+     * lists are not notified of modifications, and are then notified of them as a single change per list.
+     * Batches may be nested.
+     */
+    public void beginBatch() {
+        persons.beginBatch();
+        events.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        // Ends the event list's batch even if listeners of the person list fail
+        try {
+            persons.endBatch();
+        } finally {
+            events.endBatch();
         }
-        setEvents(newEvents);
     }
 
     /**
@@ -101,6 +137,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Inserts a person into the person list at position {@code index}.
+     * The person must not already exist in the address book.
+     */
+    public void addPerson(int index, Person p) {
+        persons.add(index, p);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -120,6 +164,23 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Returns the person with the given {@code id}, or an empty {@code Optional} if there is no such person.
+     */
+    public Optional<Person> getPersonById(PersonId id) {
+        requireNonNull(id);
+        return persons.getPersonById(id);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that uses the search index of the persons in this address
+     * book to skip persons that cannot match.
+     */
+    public Predicate<Person> narrowPersonPredicate(NameAndTagContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return persons.narrow(predicate);
+    }
+
     //// event-level operations
 
     /**
@@ -138,6 +199,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         events.add(e);
     }
 
+    /**
+     * Inserts an event into the event list at position {@code index}.
+     * The event must not already exist in the address book.
+     */
+    public void addEvent(int index, seedu.address.model.event.Event e) {
+        events.add(index, e);
+    }
+
     /**
      * Replaces the given event {@code target} in the list with {@code editedEvent}.
      * {@code target} must exist in the address book.
@@ -157,6 +226,30 @@ public class AddressBook implements ReadOnlyAddressBook {
         events.remove(key);
     }
 
+    /**
+     * Returns the events that the person with {@code personId} participates in.
+     */
+    public List<seedu.address.model.event.Event> getEventsOfPerson(PersonId personId) {
+        requireNonNull(personId);
+        return events.getEventsOf(personId);
+    }
+
+    /**
+     * Returns the events that take place on {@code date}.
+     */
+    public List<seedu.address.model.event.Event> getEventsOn(LocalDate date) {
+        requireNonNull(date);
+        return events.getEventsOn(date);
+    }
+
+    /**
+     * Returns the events that take place between {@code startDate} and {@code endDate} inclusive, ordered by date.
+     */
+    public List<seedu.address.model.event.Event> getEventsBetween(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        return events.getEventsBetween(startDate, endDate);
+    }
+
     //// util methods
 
     @Override
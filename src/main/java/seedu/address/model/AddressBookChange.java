@@ -0,0 +1,39 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.function.Consumer;
+
+/**
+ * A single change made to an {@code AddressBook}, recorded as the action that reverts it and the action that
+ * reapplies it.
+ * Both actions only hold what the change touched (e.g. the person that was added), so the memory used by a change
+ * does not depend on the size of the address book.
+ */
+public class AddressBookChange {
+    private final Consumer<AddressBook> undoAction;
+    private final Consumer<AddressBook> redoAction;
+
+    /**
+     * Creates a change that is reverted by {@code undoAction} and reapplied by {@code redoAction}.
+     */
+    public AddressBookChange(Consumer<AddressBook> undoAction, Consumer<AddressBook> redoAction) {
+        requireAllNonNull(undoAction, redoAction);
+        this.undoAction = undoAction;
+        this.redoAction = redoAction;
+    }
+
+    /**
+     * Reverts this change on {@code addressBook}, which must be in the state right after the change was made.
+     */
+    public void undo(AddressBook addressBook) {
+        undoAction.accept(addressBook);
+    }
+
+    /**
+     * Reapplies this change on {@code addressBook}, which must be in the state right before the change was made.
+     */
+    public void redo(AddressBook addressBook) {
+        redoAction.accept(addressBook);
+    }
+}
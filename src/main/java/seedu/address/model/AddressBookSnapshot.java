@@ -1,16 +1,23 @@
 package seedu.address.model;
 
-import java.util.ArrayList;
 import java.util.List;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
 
 /**
  * Represents a snapshot of an AddressBook at a specific point in time.
- * Used for implementing undo functionality.
+ * Used for undoing and redoing bulk replacements of the address book contents, and for saving the address book
+ * without blocking further changes to it.
+ *
+ * Persons and events are immutable, so a snapshot only holds immutable lists of references to them. Snapshots of an
+ * {@code AddressBook} taken through {@link AddressBook#createSnapshot(String)} share those lists with earlier
+ * snapshots while the corresponding list is unchanged. Snapshots are never modified, so they may be read from any
+ * thread.
  */
-public class AddressBookSnapshot {
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
     private final List<Person> persons;
     private final List<Event> events;
     private final String operationDescription;
@@ -22,8 +29,15 @@ public class AddressBookSnapshot {
      * @param operationDescription Description of the operation that was performed.
      */
     public AddressBookSnapshot(ReadOnlyAddressBook addressBook, String operationDescription) {
-        this.persons = new ArrayList<>(addressBook.getPersonList());
-        this.events = new ArrayList<>(addressBook.getEventList());
+        this(List.copyOf(addressBook.getPersonList()), List.copyOf(addressBook.getEventList()), operationDescription);
+    }
+
+    /**
+     * Creates a snapshot from immutable lists of persons and events that are known to be free of duplicates.
+     */
+    AddressBookSnapshot(List<Person> persons, List<Event> events, String operationDescription) {
+        this.persons = persons;
+        this.events = events;
         this.operationDescription = operationDescription;
     }
 
@@ -34,15 +48,37 @@ public class AddressBookSnapshot {
      */
     public AddressBook restoreAddressBook() {
         AddressBook restoredBook = new AddressBook();
-        for (Person person : persons) {
-            restoredBook.addPerson(person);
-        }
-        for (Event event : events) {
-            restoredBook.addEvent(event);
-        }
+        restoredBook.restoreSnapshot(this);
         return restoredBook;
     }
 
+    /**
+     * Returns true if both snapshots hold the same person and event lists.
+     * This is a constant-time check that may return false for snapshots with equal contents that were not taken
+     * from the same unchanged {@code AddressBook}.
+     */
+    public boolean hasSameDataAs(AddressBookSnapshot other) {
+        return other != null && persons == other.persons && events == other.events;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+    }
+
+    @Override
+    public ObservableList<Event> getEventList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(events));
+    }
+
+    List<Person> getPersons() {
+        return persons;
+    }
+
+    List<Event> getEvents() {
+        return events;
+    }
+
     /**
      * Returns the description of the operation that was performed.
      *
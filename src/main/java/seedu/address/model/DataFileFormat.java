@@ -0,0 +1,11 @@
+package seedu.address.model;
+
+/**
+ * The formats in which the address book data file can be stored.
+ */
+public enum DataFileFormat {
+    /** Human-readable JSON, with changes appended to a journal between full snapshots. */
+    JSON,
+    /** Compact binary snapshots that are faster to load and save. JSON data files are converted on the next save. */
+    BINARY
+}
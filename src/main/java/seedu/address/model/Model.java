@@ -1,6 +1,9 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -96,6 +99,15 @@ public interface Model {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable snapshot of the current address book data.
+     * Snapshots taken while the address book is unchanged hold the same data, which can be checked cheaply with
+     * {@link AddressBookSnapshot#hasSameDataAs(AddressBookSnapshot)}.
+     *
+     * @return Snapshot of the entire address book that is safe to read from other threads
+     */
+    AddressBookSnapshot getAddressBookSnapshot();
+
     // ========================= PERSON OPERATIONS =========================
 
     /**
@@ -166,6 +178,33 @@ public interface Model {
      */
     void setEvent(seedu.address.model.event.Event target, seedu.address.model.event.Event editedEvent);
 
+    /**
+     * Replaces each event in the keys of {@code editedEvents} with the event it maps to, as a single change to the
+     * event list.
+     * Each key must exist in the address book, and the events must meet the same conditions as for
+     * {@link #setEvent(seedu.address.model.event.Event, seedu.address.model.event.Event)}.
+     */
+    void setEvents(Map<seedu.address.model.event.Event, seedu.address.model.event.Event> editedEvents);
+
+    /**
+     * Returns the events in the address book that the person with {@code personId} participates in,
+     * regardless of the current event filter.
+     * The returned list is a copy, so events may be replaced or deleted while iterating over it.
+     */
+    List<seedu.address.model.event.Event> getEventsOfPerson(seedu.address.model.person.PersonId personId);
+
+    /**
+     * Returns the events in the address book that take place on {@code date}, regardless of the current event filter.
+     */
+    List<seedu.address.model.event.Event> getEventsOn(LocalDate date);
+
+    /**
+     * Returns the events in the address book that take place between {@code startDate} and {@code endDate}
+     * inclusive, ordered by date and regardless of the current event filter.
+     * Returns an empty list if {@code startDate} is after {@code endDate}.
+     */
+    List<seedu.address.model.event.Event> getEventsBetween(LocalDate startDate, LocalDate endDate);
+
     // ========================= UI FILTERING & DISPLAY =========================
 
     /**
@@ -205,9 +244,24 @@ public interface Model {
      */
     void updateFilteredEventList(Predicate<seedu.address.model.event.Event> predicate);
 
+    /**
+     * Starts a batch of changes to the address book, for commands that change many persons or events.
+     * Until the matching {@link #commitBatch()}, the filtered lists are not updated with the changes, and are then
+     * updated with all of them at once. Batches may be nested, in which case the outermost commit updates them.
+     *
+     * Each call must be followed by a call to {@code commitBatch()}, even if the changes fail.
+     */
+    void beginBatch();
+
+    /**
+     * Ends the batch of changes started by the matching {@link #beginBatch()}.
+     */
+    void commitBatch();
+
     /**
      * Saves the current state of the address book before executing a command that modifies it.
-     * This enables undo functionality.
+     * This enables undo functionality. Changes made until the next call are undone together as one operation, and
+     * a bounded number of operations can be undone one after another.
      *
      * @param operationDescription A description of the operation about to be performed.
      */
@@ -221,12 +275,26 @@ public interface Model {
     boolean canUndo();
 
     /**
-     * Undoes the last operation by restoring the previously saved state.
+     * Undoes the most recent operation that has not been undone yet by restoring the state saved before it.
      *
      * @return A description of the operation that was undone.
      */
     String undo();
 
+    /**
+     * Checks if a redo operation is possible.
+     *
+     * @return true if there is an undone operation that has not been superseded by a new operation.
+     */
+    boolean canRedo();
+
+    /**
+     * Redoes the most recently undone operation.
+     *
+     * @return A description of the operation that was redone.
+     */
+    String redo();
+
     // ========================= CLEAR HELPERS =========================
 
     /**
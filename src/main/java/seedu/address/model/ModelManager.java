@@ -4,7 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -14,6 +17,7 @@ import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.NameAndTagContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonId;
 
@@ -25,10 +29,11 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
+    private final SortedList<Person> sortedPersons;
     private final FilteredList<Person> filteredPersons;
-    private final SortedList<Person> sortedFilteredPersons;
+    private Predicate<Person> personPredicate = PREDICATE_SHOW_ALL_PERSONS;
     private final FilteredList<seedu.address.model.event.Event> filteredEvents;
-    private AddressBookSnapshot undoSnapshot; // Stores the previous state for undo
+    private final UndoHistory undoHistory = new UndoHistory();
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -40,9 +45,11 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        sortedFilteredPersons = new SortedList<>(filteredPersons, (person1, person2) ->
-                person1.getName().fullName.compareToIgnoreCase(person2.getName().fullName));
+        // Sorted before filtering, so that changing the filter does not sort the persons again, and changes to the
+        // address book only move the changed persons into place
+        sortedPersons = new SortedList<>(this.addressBook.getPersonList(), (person1, person2) ->
+                person1.getName().getSearchKey().compareTo(person2.getName().getSearchKey()));
+        filteredPersons = new FilteredList<>(sortedPersons);
         filteredEvents = new FilteredList<>(this.addressBook.getEventList());
     }
 
@@ -89,7 +96,15 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        if (!undoHistory.isRecording()) {
+            // Nothing can be undone yet, so there is no need for snapshots to undo this with
+            this.addressBook.resetData(addressBook);
+            return;
+        }
+
+        AddressBookSnapshot before = this.addressBook.createSnapshot("reset");
         this.addressBook.resetData(addressBook);
+        recordReplacement(before, this.addressBook.createSnapshot("reset"));
     }
 
     @Override
@@ -97,17 +112,17 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public AddressBookSnapshot getAddressBookSnapshot() {
+        return addressBook.createSnapshot("save");
+    }
+
     //========================= PERSON OPERATIONS =========================
 
     @Override
     public Optional<Person> getPersonById(PersonId id) {
         requireNonNull(id);
-        for (Person person : addressBook.getPersonList()) {
-            if (person.getId().equals(id)) {
-                return Optional.of(person);
-            }
-        }
-        return Optional.empty();
+        return addressBook.getPersonById(id);
     }
 
     /**
@@ -126,12 +141,16 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
+        int index = addressBook.getPersonList().indexOf(target);
         addressBook.removePerson(target);
+        undoHistory.record(new AddressBookChange(book -> book.addPerson(index, target),
+                book -> book.removePerson(target)));
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
+        undoHistory.record(new AddressBookChange(book -> book.removePerson(person), book -> book.addPerson(person)));
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -140,6 +159,8 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
+        undoHistory.record(new AddressBookChange(book -> book.setPerson(editedPerson, target),
+                book -> book.setPerson(target, editedPerson)));
     }
 
     @Override
@@ -150,12 +171,16 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteEvent(seedu.address.model.event.Event target) {
+        int index = addressBook.getEventList().indexOf(target);
         addressBook.removeEvent(target);
+        undoHistory.record(new AddressBookChange(book -> book.addEvent(index, target),
+                book -> book.removeEvent(target)));
     }
 
     @Override
     public void addEvent(seedu.address.model.event.Event event) {
         addressBook.addEvent(event);
+        undoHistory.record(new AddressBookChange(book -> book.removeEvent(event), book -> book.addEvent(event)));
         updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
     }
 
@@ -164,6 +189,41 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedEvent);
 
         addressBook.setEvent(target, editedEvent);
+        undoHistory.record(new AddressBookChange(book -> book.setEvent(editedEvent, target),
+                book -> book.setEvent(target, editedEvent)));
+    }
+
+    @Override
+    public void setEvents(Map<seedu.address.model.event.Event, seedu.address.model.event.Event> editedEvents) {
+        requireNonNull(editedEvents);
+
+        addressBook.beginBatch();
+        try {
+            for (Map.Entry<seedu.address.model.event.Event, seedu.address.model.event.Event> entry
+                    : editedEvents.entrySet()) {
+                setEvent(entry.getKey(), entry.getValue());
+            }
+        } finally {
+            addressBook.endBatch();
+        }
+    }
+
+    @Override
+    public List<seedu.address.model.event.Event> getEventsOfPerson(PersonId personId) {
+        requireNonNull(personId);
+        return addressBook.getEventsOfPerson(personId);
+    }
+
+    @Override
+    public List<seedu.address.model.event.Event> getEventsOn(LocalDate date) {
+        requireNonNull(date);
+        return addressBook.getEventsOn(date);
+    }
+
+    @Override
+    public List<seedu.address.model.event.Event> getEventsBetween(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        return addressBook.getEventsBetween(startDate, endDate);
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -174,13 +234,25 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return sortedFilteredPersons;
+        return filteredPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        if (predicate.equals(personPredicate)) {
+            // The filtered list is kept up to date with changes, so the same filter would give the same persons
+            return;
+        }
+        personPredicate = predicate;
+
+        if (predicate instanceof NameAndTagContainsKeywordsPredicate) {
+            // Only the persons found through the search index need to be checked against the keywords
+            filteredPersons.setPredicate(
+                    addressBook.narrowPersonPredicate((NameAndTagContainsKeywordsPredicate) predicate));
+        } else {
+            filteredPersons.setPredicate(predicate);
+        }
     }
 
     @Override
@@ -200,43 +272,83 @@ public class ModelManager implements Model {
     public void clearContacts() {
         // Defensive: ensure addressBook is non-null
         requireNonNull(addressBook);
+        AddressBookSnapshot before = addressBook.createSnapshot("clear contacts");
         addressBook.setPersons(new ArrayList<>());
+        recordReplacement(before, addressBook.createSnapshot("clear contacts"));
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         logger.info("Cleared all contacts in ModelManager");
     }
 
     @Override
     public void clearEvents() {
+        AddressBookSnapshot before = addressBook.createSnapshot("clear events");
         addressBook.setEvents(new ArrayList<>());
+        recordReplacement(before, addressBook.createSnapshot("clear events"));
         updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
     }
 
+    //=========== Batch Changes ===============================================================================
+
+    @Override
+    public void beginBatch() {
+        addressBook.beginBatch();
+    }
+
+    @Override
+    public void commitBatch() {
+        addressBook.endBatch();
+    }
+
     //=========== Undo Functionality ==========================================================================
 
     @Override
     public void saveStateForUndo(String operationDescription) {
-        undoSnapshot = new AddressBookSnapshot(addressBook, operationDescription);
+        undoHistory.beginOperation(operationDescription, userPrefs.getUndoHistoryLimit());
     }
 
     @Override
     public boolean canUndo() {
-        return undoSnapshot != null;
+        return undoHistory.canUndo();
     }
 
     @Override
     public String undo() {
-        if (undoSnapshot == null) {
+        if (!undoHistory.canUndo()) {
             return "No operation to undo";
         }
+        // An operation may have made many changes, which are undone as one change to each list
+        addressBook.beginBatch();
+        try {
+            return undoHistory.undo(addressBook);
+        } finally {
+            addressBook.endBatch();
+        }
+    }
 
-        String description = undoSnapshot.getOperationDescription();
-        AddressBook restoredBook = undoSnapshot.restoreAddressBook();
-        addressBook.resetData(restoredBook);
+    @Override
+    public boolean canRedo() {
+        return undoHistory.canRedo();
+    }
 
-        // Clear the undo snapshot after using it
-        undoSnapshot = null;
+    @Override
+    public String redo() {
+        if (!undoHistory.canRedo()) {
+            return "No operation to redo";
+        }
+        addressBook.beginBatch();
+        try {
+            return undoHistory.redo(addressBook);
+        } finally {
+            addressBook.endBatch();
+        }
+    }
 
-        return description;
+    /**
+     * Records a bulk replacement of the address book contents, from {@code before} to {@code after}.
+     */
+    private void recordReplacement(AddressBookSnapshot before, AddressBookSnapshot after) {
+        undoHistory.record(new AddressBookChange(book -> book.restoreSnapshot(before),
+                book -> book.restoreSnapshot(after)));
     }
 
     @Override
@@ -0,0 +1,110 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * A bounded history of the operations performed on an {@code AddressBook}, for undo and redo.
+ * Each operation is a journal of the {@code AddressBookChange}s made between one call of
+ * {@link #beginOperation(String, int)} and the next, so the memory used by the history is proportional to what
+ * was changed rather than to the size of the address book.
+ */
+public class UndoHistory {
+    private final Deque<Operation> undoStack = new ArrayDeque<>();
+    private final Deque<Operation> redoStack = new ArrayDeque<>();
+
+    /**
+     * Starts a new operation described by {@code description}, which subsequent changes are recorded into.
+     * Operations that can no longer be redone are discarded, and the oldest operations are dropped so that at most
+     * {@code limit} operations can be undone.
+     * The previous operation is replaced if it did not record any changes, e.g. because its command failed.
+     */
+    public void beginOperation(String description, int limit) {
+        if (!undoStack.isEmpty() && undoStack.peekLast().changes.isEmpty()) {
+            undoStack.removeLast();
+        }
+        undoStack.addLast(new Operation(description));
+        redoStack.clear();
+        trimTo(limit);
+    }
+
+    /**
+     * Records {@code change} as part of the current operation.
+     * Changes made before the first operation began cannot be undone and are not recorded.
+     */
+    public void record(AddressBookChange change) {
+        requireNonNull(change);
+        if (!isRecording()) {
+            return;
+        }
+        undoStack.peekLast().changes.add(change);
+        redoStack.clear();
+    }
+
+    /**
+     * Returns true if an operation has begun, so that changes are recorded into it.
+     */
+    public boolean isRecording() {
+        return !undoStack.isEmpty();
+    }
+
+    public boolean canUndo() {
+        return !undoStack.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoStack.isEmpty();
+    }
+
+    /**
+     * Reverts the changes of the most recent operation on {@code addressBook}, latest change first.
+     *
+     * @return The description of the operation that was undone.
+     */
+    public String undo(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        Operation operation = undoStack.removeLast();
+        for (int i = operation.changes.size() - 1; i >= 0; i--) {
+            operation.changes.get(i).undo(addressBook);
+        }
+        redoStack.addLast(operation);
+        return operation.description;
+    }
+
+    /**
+     * Reapplies the changes of the most recently undone operation on {@code addressBook}, in their original order.
+     *
+     * @return The description of the operation that was redone.
+     */
+    public String redo(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        Operation operation = redoStack.removeLast();
+        for (AddressBookChange change : operation.changes) {
+            change.redo(addressBook);
+        }
+        undoStack.addLast(operation);
+        return operation.description;
+    }
+
+    private void trimTo(int limit) {
+        while (undoStack.size() > limit) {
+            undoStack.removeFirst();
+        }
+    }
+
+    /**
+     * The changes recorded for one undoable operation.
+     */
+    private static class Operation {
+        private final String description;
+        private final List<AddressBookChange> changes = new ArrayList<>();
+
+        Operation(String description) {
+            this.description = description;
+        }
+    }
+}
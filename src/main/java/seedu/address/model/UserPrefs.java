@@ -1,20 +1,32 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonSetter;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.LogsCenter;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_UNDO_HISTORY_LIMIT = 100;
+    public static final String MESSAGE_UNDO_HISTORY_LIMIT_CONSTRAINTS = "Undo history limit must be positive";
+
+    private static final Logger logger = LogsCenter.getLogger(UserPrefs.class);
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "absolutsinema.json");
+    private DataFileFormat addressBookFileFormat = DataFileFormat.JSON;
+    private int undoHistoryLimit = DEFAULT_UNDO_HISTORY_LIMIT;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +48,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFileFormat(newUserPrefs.getAddressBookFileFormat());
+        setUndoHistoryLimit(newUserPrefs.getUndoHistoryLimit());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +70,53 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public DataFileFormat getAddressBookFileFormat() {
+        return addressBookFileFormat;
+    }
+
+    public void setAddressBookFileFormat(DataFileFormat addressBookFileFormat) {
+        requireNonNull(addressBookFileFormat);
+        this.addressBookFileFormat = addressBookFileFormat;
+    }
+
+    /**
+     * Sets the data file format read from a preferences file, using the JSON format instead of a missing or unknown
+     * format.
+     */
+    @JsonSetter("addressBookFileFormat")
+    private void setAddressBookFileFormatFromFile(String addressBookFileFormat) {
+        DataFileFormat format = DataFileFormat.JSON;
+        try {
+            format = DataFileFormat.valueOf(String.valueOf(addressBookFileFormat));
+        } catch (IllegalArgumentException e) {
+            logger.warning("Invalid data file format " + addressBookFileFormat + " in preference file. Using "
+                    + DataFileFormat.JSON + " instead.");
+        }
+        setAddressBookFileFormat(format);
+    }
+
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit;
+    }
+
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        checkArgument(undoHistoryLimit > 0, MESSAGE_UNDO_HISTORY_LIMIT_CONSTRAINTS);
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
+    /**
+     * Sets the undo history limit read from a preferences file, using the default limit instead of an invalid one.
+     */
+    @JsonSetter("undoHistoryLimit")
+    private void setUndoHistoryLimitFromFile(int undoHistoryLimit) {
+        if (undoHistoryLimit <= 0) {
+            logger.warning("Invalid undo history limit " + undoHistoryLimit + " in preference file. Using default "
+                    + DEFAULT_UNDO_HISTORY_LIMIT + " instead.");
+            undoHistoryLimit = DEFAULT_UNDO_HISTORY_LIMIT;
+        }
+        setUndoHistoryLimit(undoHistoryLimit);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +130,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && addressBookFileFormat == otherUserPrefs.addressBookFileFormat
+                && undoHistoryLimit == otherUserPrefs.undoHistoryLimit;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFileFormat, undoHistoryLimit);
     }
 
     @Override
@@ -82,6 +145,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookFileFormat);
+        sb.append("\nUndo history limit : " + undoHistoryLimit);
         return sb.toString();
     }
 
@@ -1,7 +1,6 @@
 package seedu.address.model.event;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collection;
 import java.util.Objects;
 
 import seedu.address.model.person.Budget;
@@ -16,7 +15,7 @@ public class Event {
     private final EventName eventName;
     private final EventDate eventDate;
     private final EventTime eventTime;
-    private final List<PersonId> participants;
+    private final ParticipantSet participants;
     private final Budget initialBudget;
     private final Budget remainingBudget;
 
@@ -27,20 +26,21 @@ public class Event {
         this.eventName = eventName;
         this.eventDate = eventDate;
         this.eventTime = eventTime;
-        this.participants = new ArrayList<>();
+        this.participants = ParticipantSet.empty();
         this.initialBudget = budget;
         this.remainingBudget = budget;
     }
 
     /**
-     * Initialize with participants list
+     * Initialize with participants.
+     * A {@code ParticipantSet} is immutable and is shared rather than copied.
      */
-    public Event(EventName eventName, EventDate eventDate, EventTime eventTime, List<PersonId> participants,
+    public Event(EventName eventName, EventDate eventDate, EventTime eventTime, Collection<PersonId> participants,
             Budget initialBudget, Budget remainingBudget) {
         this.eventName = eventName;
         this.eventDate = eventDate;
         this.eventTime = eventTime;
-        this.participants = new ArrayList<>(participants); // Defensive copy
+        this.participants = ParticipantSet.copyOf(participants);
         this.initialBudget = initialBudget;
         this.remainingBudget = remainingBudget;
     }
@@ -57,7 +57,7 @@ public class Event {
         return eventTime;
     }
 
-    public List<PersonId> getParticipants() {
+    public ParticipantSet getParticipants() {
         return participants;
     }
 
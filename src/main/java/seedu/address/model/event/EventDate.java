@@ -4,16 +4,15 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDate;
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.time.format.ResolverStyle;
+import java.time.LocalDateTime;
+
+import seedu.address.commons.util.ValidationUtil;
 
 /**
  * Represents an Event's date in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidDate(String)}
  */
-public class EventDate {
+public class EventDate implements Comparable<EventDate> {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Dates should be in the format dd-MM-yyyy, must be a valid calendar date, and cannot be before today.";
@@ -21,6 +20,7 @@ public class EventDate {
     public static final String VALIDATION_REGEX = "^(3[01]|[12][0-9]|0[1-9])-(1[0-2]|0[1-9])-[0-9]{4}$";
 
     public final String value;
+    private final LocalDate date;
 
     /**
      * Constructs an {@code EventDate}.
@@ -31,52 +31,36 @@ public class EventDate {
         requireNonNull(date);
         checkArgument(isValidDate(date), MESSAGE_CONSTRAINTS);
         value = date;
+        this.date = LocalDate.of(ValidationUtil.parseDigits(date, 6, 10), ValidationUtil.parseDigits(date, 3, 5),
+                ValidationUtil.parseDigits(date, 0, 2));
     }
 
     /**
      * Returns true if a given string is a valid date.
      */
     public static boolean isValidDate(String test) {
-        // First check if the format matches the regex
-        if (!test.matches(VALIDATION_REGEX)) {
-            return false;
-        }
+        // Same as matching VALIDATION_REGEX and checking that the date exists in the calendar
+        return ValidationUtil.isDate(test);
+    }
 
-        // Then validate if the date actually exists in the calendar
-        try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MM-uuuu")
-                    .withResolverStyle(ResolverStyle.STRICT);
-            LocalDate parsedDate = LocalDate.parse(test, formatter);
-            return true;
-        } catch (DateTimeParseException e) {
-            return false;
-        }
+    /**
+     * Returns true if {@code time} on this date is in the past.
+     */
+    public boolean isInPast(EventTime time) {
+        requireNonNull(time);
+        return LocalDateTime.of(date, time.toLocalTime()).isBefore(LocalDateTime.now());
     }
 
     /**
-     * Returns true if the date and time combination is in the past.
+     * Returns this date as a {@code LocalDate}.
      */
-    public boolean isInPast(String timeValue) {
-        try {
-            DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("dd-MM-uuuu")
-                    .withResolverStyle(ResolverStyle.STRICT);
-            DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
-
-            LocalDate parsedDate = LocalDate.parse(value, dateFormatter);
-            LocalTime parsedTime = LocalTime.parse(timeValue, timeFormatter);
-
-            LocalDate today = LocalDate.now();
-            LocalTime now = LocalTime.now();
-
-            if (parsedDate.isBefore(today)) {
-                return true;
-            } else if (parsedDate.equals(today)) {
-                return parsedTime.isBefore(now);
-            }
-            return false;
-        } catch (DateTimeParseException e) {
-            return false;
-        }
+    public LocalDate toLocalDate() {
+        return date;
+    }
+
+    @Override
+    public int compareTo(EventDate other) {
+        return date.compareTo(other.date);
     }
 
     @Override
@@ -96,11 +80,11 @@ public class EventDate {
         }
 
         EventDate otherDate = (EventDate) other;
-        return value.equals(otherDate.value);
+        return date.equals(otherDate.date);
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return date.hashCode();
     }
 }
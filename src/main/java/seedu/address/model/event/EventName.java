@@ -3,6 +3,10 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents an Event's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -19,6 +23,8 @@ public class EventName {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ' -]*";
 
+    private static final Pattern VALIDATION_PATTERN = ValidationUtil.compile(VALIDATION_REGEX);
+
     public final String fullName;
 
     /**
@@ -36,7 +42,7 @@ public class EventName {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.matches(VALIDATION_PATTERN, test);
     }
 
 
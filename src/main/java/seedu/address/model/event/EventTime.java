@@ -3,11 +3,15 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.time.LocalTime;
+
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents an Event's time in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidTime(String)}
  */
-public class EventTime {
+public class EventTime implements Comparable<EventTime> {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Times should be in the format HH:mm";
@@ -15,6 +19,7 @@ public class EventTime {
     public static final String VALIDATION_REGEX = "^([01]?[0-9]|2[0-3]):[0-5][0-9]$";
 
     public final String value;
+    private final LocalTime time;
 
     /**
      * Constructs an {@code EventTime}.
@@ -25,13 +30,29 @@ public class EventTime {
         requireNonNull(time);
         checkArgument(isValidTime(time), MESSAGE_CONSTRAINTS);
         value = time;
+        int colon = time.length() - 3;
+        this.time = LocalTime.of(ValidationUtil.parseDigits(time, 0, colon),
+                ValidationUtil.parseDigits(time, colon + 1, time.length()));
     }
 
     /**
      * Returns true if a given string is a valid time.
      */
     public static boolean isValidTime(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // Same as matching VALIDATION_REGEX
+        return ValidationUtil.isTime(test);
+    }
+
+    /**
+     * Returns this time as a {@code LocalTime}.
+     */
+    public LocalTime toLocalTime() {
+        return time;
+    }
+
+    @Override
+    public int compareTo(EventTime other) {
+        return time.compareTo(other.time);
     }
 
     @Override
@@ -51,11 +72,11 @@ public class EventTime {
         }
 
         EventTime otherTime = (EventTime) other;
-        return value.equals(otherTime.value);
+        return time.equals(otherTime.time);
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return time.hashCode();
     }
 }
@@ -0,0 +1,264 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import seedu.address.model.person.PersonId;
+
+/**
+ * An immutable set of the {@code PersonId}s taking part in an event.
+ * The UUID halves of each id are stored in a pair of sorted {@code long} arrays, so membership checks use binary
+ * search and no {@code PersonId} or {@code UUID} objects are kept per participant.
+ *
+ * Sets are never modified after construction. Methods that derive a new set return this instance when the result
+ * would be unchanged, so unchanged participant sets can be shared between copies of an event.
+ * Iteration is in ascending UUID order and creates a new {@code PersonId} for every element.
+ */
+public final class ParticipantSet extends AbstractSet<PersonId> {
+
+    private static final ParticipantSet EMPTY = new ParticipantSet(new long[0], new long[0]);
+
+    private static final Comparator<UUID> ORDER = Comparator
+            .comparingLong(UUID::getMostSignificantBits)
+            .thenComparingLong(UUID::getLeastSignificantBits);
+
+    private final long[] mostSigBits;
+    private final long[] leastSigBits;
+
+    private ParticipantSet(long[] mostSigBits, long[] leastSigBits) {
+        this.mostSigBits = mostSigBits;
+        this.leastSigBits = leastSigBits;
+    }
+
+    /**
+     * Returns the empty participant set.
+     */
+    public static ParticipantSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a participant set containing the ids in {@code personIds}, ignoring duplicates.
+     * If {@code personIds} is already a {@code ParticipantSet}, it is returned as is.
+     */
+    public static ParticipantSet copyOf(Collection<PersonId> personIds) {
+        requireNonNull(personIds);
+        if (personIds instanceof ParticipantSet) {
+            return (ParticipantSet) personIds;
+        }
+        requireAllNonNull(personIds);
+        if (personIds.isEmpty()) {
+            return EMPTY;
+        }
+
+        UUID[] sorted = new UUID[personIds.size()];
+        int i = 0;
+        for (PersonId personId : personIds) {
+            sorted[i++] = personId.getUuid();
+        }
+        Arrays.sort(sorted, ORDER);
+
+        long[] msb = new long[sorted.length];
+        long[] lsb = new long[sorted.length];
+        int size = 0;
+        for (UUID uuid : sorted) {
+            if (size > 0 && msb[size - 1] == uuid.getMostSignificantBits()
+                    && lsb[size - 1] == uuid.getLeastSignificantBits()) {
+                continue;
+            }
+            msb[size] = uuid.getMostSignificantBits();
+            lsb[size] = uuid.getLeastSignificantBits();
+            size++;
+        }
+        return new ParticipantSet(Arrays.copyOf(msb, size), Arrays.copyOf(lsb, size));
+    }
+
+    /**
+     * Returns true if {@code personId} is in this set.
+     */
+    public boolean contains(PersonId personId) {
+        requireNonNull(personId);
+        UUID uuid = personId.getUuid();
+        return indexOf(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()) >= 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof PersonId && contains((PersonId) o);
+    }
+
+    /**
+     * Returns a set that also contains {@code personId}.
+     */
+    public ParticipantSet with(PersonId personId) {
+        requireNonNull(personId);
+        return withAll(copyOf(Arrays.asList(personId)));
+    }
+
+    /**
+     * Returns a set that contains the ids in this set and in {@code personIds}.
+     */
+    public ParticipantSet withAll(Collection<PersonId> personIds) {
+        ParticipantSet other = copyOf(personIds);
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+
+        long[] msb = new long[size() + other.size()];
+        long[] lsb = new long[msb.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < size() || j < other.size()) {
+            int cmp;
+            if (i == size()) {
+                cmp = 1;
+            } else if (j == other.size()) {
+                cmp = -1;
+            } else {
+                cmp = compare(mostSigBits[i], leastSigBits[i], other.mostSigBits[j], other.leastSigBits[j]);
+            }
+
+            if (cmp <= 0) {
+                msb[size] = mostSigBits[i];
+                lsb[size] = leastSigBits[i];
+                i++;
+                if (cmp == 0) {
+                    j++;
+                }
+            } else {
+                msb[size] = other.mostSigBits[j];
+                lsb[size] = other.leastSigBits[j];
+                j++;
+            }
+            size++;
+        }
+
+        if (size == size()) {
+            return this;
+        }
+        return new ParticipantSet(Arrays.copyOf(msb, size), Arrays.copyOf(lsb, size));
+    }
+
+    /**
+     * Returns a set that does not contain {@code personId}.
+     */
+    public ParticipantSet without(PersonId personId) {
+        requireNonNull(personId);
+        return withoutAll(Arrays.asList(personId));
+    }
+
+    /**
+     * Returns a set that contains the ids in this set that are not in {@code personIds}.
+     */
+    public ParticipantSet withoutAll(Collection<PersonId> personIds) {
+        ParticipantSet other = copyOf(personIds);
+        if (isEmpty() || other.isEmpty()) {
+            return this;
+        }
+
+        long[] msb = new long[size()];
+        long[] lsb = new long[size()];
+        int size = 0;
+        for (int i = 0; i < size(); i++) {
+            if (other.indexOf(mostSigBits[i], leastSigBits[i]) < 0) {
+                msb[size] = mostSigBits[i];
+                lsb[size] = leastSigBits[i];
+                size++;
+            }
+        }
+
+        if (size == size()) {
+            return this;
+        }
+        return size == 0 ? EMPTY : new ParticipantSet(Arrays.copyOf(msb, size), Arrays.copyOf(lsb, size));
+    }
+
+    @Override
+    public int size() {
+        return mostSigBits.length;
+    }
+
+    @Override
+    public Iterator<PersonId> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size();
+            }
+
+            @Override
+            public PersonId next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                PersonId personId = new PersonId(new UUID(mostSigBits[next], leastSigBits[next]));
+                next++;
+                return personId;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (other instanceof ParticipantSet) {
+            ParticipantSet otherSet = (ParticipantSet) other;
+            return Arrays.equals(mostSigBits, otherSet.mostSigBits)
+                    && Arrays.equals(leastSigBits, otherSet.leastSigBits);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        // Sum of the element hash codes as required by Set, computed the same way as UUID#hashCode
+        int hashCode = 0;
+        for (int i = 0; i < size(); i++) {
+            long hilo = mostSigBits[i] ^ leastSigBits[i];
+            hashCode += ((int) (hilo >> 32)) ^ (int) hilo;
+        }
+        return hashCode;
+    }
+
+    /**
+     * Returns the position of the given UUID halves in the arrays, or a negative number if absent.
+     */
+    private int indexOf(long msb, long lsb) {
+        int low = 0;
+        int high = size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(mostSigBits[mid], leastSigBits[mid], msb, lsb);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private static int compare(long msb1, long lsb1, long msb2, long lsb2) {
+        int cmp = Long.compare(msb1, msb2);
+        return cmp != 0 ? cmp : Long.compare(lsb1, lsb2);
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.PersonId;
+
+/**
+ * A bidirectional index between persons and the events they participate in.
+ * Events are keyed by their identity ({@code EventName}), which is unique within a {@code UniqueEventList}.
+ *
+ * The participants recorded for an event are the ones it had when it was indexed, so an event must be removed
+ * from the index before it is replaced.
+ */
+public class ParticipationIndex {
+
+    private final Map<PersonId, Map<EventName, Event>> eventsByPerson = new HashMap<>();
+    private final Map<EventName, ParticipantSet> participantsByEvent = new HashMap<>();
+
+    /**
+     * Records every participant of {@code event} as taking part in it.
+     */
+    public void add(Event event) {
+        requireNonNull(event);
+        ParticipantSet participants = event.getParticipants();
+        participantsByEvent.put(event.getName(), participants);
+        for (PersonId personId : participants) {
+            eventsByPerson.computeIfAbsent(personId, unused -> new LinkedHashMap<>()).put(event.getName(), event);
+        }
+    }
+
+    /**
+     * Removes {@code event} and its participants from the index.
+     * Does nothing if no event with the same identity has been indexed.
+     */
+    public void remove(Event event) {
+        requireNonNull(event);
+        ParticipantSet participants = participantsByEvent.remove(event.getName());
+        if (participants == null) {
+            return;
+        }
+        for (PersonId personId : participants) {
+            Map<EventName, Event> events = eventsByPerson.get(personId);
+            events.remove(event.getName());
+            if (events.isEmpty()) {
+                eventsByPerson.remove(personId);
+            }
+        }
+    }
+
+    /**
+     * Removes all entries from the index.
+     */
+    public void clear() {
+        eventsByPerson.clear();
+        participantsByEvent.clear();
+    }
+
+    /**
+     * Returns the events that the person with {@code personId} participates in, in the order they were indexed.
+     * The returned list is a copy, so callers may modify the indexed events while iterating over it.
+     */
+    public List<Event> getEventsOf(PersonId personId) {
+        requireNonNull(personId);
+        Map<EventName, Event> events = eventsByPerson.get(personId);
+        return events == null ? new ArrayList<>() : new ArrayList<>(events.values());
+    }
+
+    /**
+     * Returns the participants of the event with the same identity as {@code event}.
+     */
+    public ParticipantSet getParticipantsOf(Event event) {
+        requireNonNull(event);
+        return participantsByEvent.getOrDefault(event.getName(), ParticipantSet.empty());
+    }
+}
@@ -3,13 +3,20 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.BatchedObservableList;
 import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.event.exceptions.EventNotFoundException;
+import seedu.address.model.person.PersonId;
 
 /**
  * A list of events that enforces uniqueness between its elements and does not allow nulls.
@@ -18,22 +25,34 @@ import seedu.address.model.event.exceptions.EventNotFoundException;
  * unique in terms of identity in the UniqueEventList. However, the removal of an event uses Event#equals(Object) so
  * as to ensure that the event with exactly the same fields will be removed.
  *
- * Supports a minimal set of lis t operations.
+ * Supports a minimal set of list operations.
+ *
+ * The identity fields used by {@code Event#isSameEvent(Event)} are indexed alongside the internal list, so that
+ * duplicate checks run in constant time. The participants of each event are indexed as well, so that the events of a
+ * person can be found without scanning the whole list, and events are bucketed by date to support date and date
+ * range queries.
+ *
+ * An immutable copy of the list is cached until the next modification, so that repeated snapshots of an unchanged
+ * list share the same copy.
  *
  * @see Event#isSameEvent(Event)
  */
 public class UniqueEventList implements Iterable<Event> {
 
-    private final ObservableList<Event> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Event> internalList = new BatchedObservableList<>();
     private final ObservableList<Event> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Set<EventName> names = new HashSet<>();
+    private List<Event> frozenList;
+    private final ParticipationIndex participation = new ParticipationIndex();
+    private final TreeMap<LocalDate, List<Event>> eventsByDate = new TreeMap<>();
 
     /**
      * Returns true if the list contains an equivalent event as the given argument.
      */
     public boolean contains(Event toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEvent);
+        return names.contains(toCheck.getName());
     }
 
     /**
@@ -46,6 +65,20 @@ public class UniqueEventList implements Iterable<Event> {
             throw new DuplicateEventException();
         }
         internalList.add(toAdd);
+        index(toAdd);
+    }
+
+    /**
+     * Inserts a event into the list at position {@code index}.
+     * The event must not already exist in the list.
+     */
+    public void add(int index, Event toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateEventException();
+        }
+        internalList.add(index, toAdd);
+        index(toAdd);
     }
 
     /**
@@ -65,7 +98,9 @@ public class UniqueEventList implements Iterable<Event> {
             throw new DuplicateEventException();
         }
 
-        internalList.set(index, editedEvent);
+        Event replaced = internalList.set(index, editedEvent);
+        unindex(replaced);
+        index(editedEvent);
     }
 
     /**
@@ -74,14 +109,17 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void remove(Event toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new EventNotFoundException();
         }
+        unindex(internalList.remove(index));
     }
 
     public void setEvents(UniqueEventList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        reindex();
     }
 
     /**
@@ -95,6 +133,80 @@ public class UniqueEventList implements Iterable<Event> {
         }
 
         internalList.setAll(events);
+        reindex();
+    }
+
+    /**
+     * Returns the events that the person with {@code personId} participates in.
+     * The returned list is a copy and may be modified freely.
+     */
+    public List<Event> getEventsOf(PersonId personId) {
+        requireNonNull(personId);
+        return participation.getEventsOf(personId);
+    }
+
+    /**
+     * Returns the events that take place on {@code date}.
+     * The returned list is a copy and may be modified freely.
+     */
+    public List<Event> getEventsOn(LocalDate date) {
+        requireNonNull(date);
+        List<Event> events = eventsByDate.get(date);
+        return events == null ? new ArrayList<>() : new ArrayList<>(events);
+    }
+
+    /**
+     * Returns the events that take place between {@code startDate} and {@code endDate} inclusive, ordered by date.
+     * The returned list is a copy and may be modified freely.
+     */
+    public List<Event> getEventsBetween(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        List<Event> result = new ArrayList<>();
+        if (startDate.isAfter(endDate)) {
+            return result;
+        }
+        for (List<Event> events : eventsByDate.subMap(startDate, true, endDate, true).values()) {
+            result.addAll(events);
+        }
+        return result;
+    }
+
+    /**
+     * Returns an immutable copy of the current contents of this list.
+     * The copy is reused until this list is next modified.
+     */
+    public List<Event> asFrozenList() {
+        if (frozenList == null) {
+            frozenList = List.copyOf(internalList);
+        }
+        return frozenList;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code frozenEvents}, which must have been obtained from
+     * {@link #asFrozenList()} of a {@code UniqueEventList}.
+     * Such a list is known to be unique and immutable, so it is neither checked for duplicates nor copied.
+     */
+    public void restoreFrozenList(List<Event> frozenEvents) {
+        requireNonNull(frozenEvents);
+        internalList.setAll(frozenEvents);
+        reindex();
+        frozenList = frozenEvents;
+    }
+
+    /**
+     * Starts a batch of modifications, which are reported to listeners of this list as a single change when the
+     * matching {@link #endBatch()} is called.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
     }
 
     /**
@@ -138,15 +250,52 @@ public class UniqueEventList implements Iterable<Event> {
         return internalList.toString();
     }
 
+    /**
+     * Adds {@code event} to the identity, participation and date indexes.
+     */
+    private void index(Event event) {
+        frozenList = null;
+        names.add(event.getName());
+        participation.add(event);
+        eventsByDate.computeIfAbsent(event.getDate().toLocalDate(), unused -> new ArrayList<>()).add(event);
+    }
+
+    /**
+     * Removes {@code event} from the identity, participation and date indexes.
+     */
+    private void unindex(Event event) {
+        frozenList = null;
+        names.remove(event.getName());
+        participation.remove(event);
+        LocalDate date = event.getDate().toLocalDate();
+        List<Event> events = eventsByDate.get(date);
+        events.remove(event);
+        if (events.isEmpty()) {
+            eventsByDate.remove(date);
+        }
+    }
+
+    /**
+     * Rebuilds the identity, participation and date indexes from the internal list.
+     */
+    private void reindex() {
+        frozenList = null;
+        names.clear();
+        participation.clear();
+        eventsByDate.clear();
+        for (Event event : internalList) {
+            index(event);
+        }
+    }
+
     /**
      * Returns true if {@code events} contains only unique events.
      */
     private boolean eventsAreUnique(List<Event> events) {
-        for (int i = 0; i < events.size() - 1; i++) {
-            for (int j = i + 1; j < events.size(); j++) {
-                if (events.get(i).isSameEvent(events.get(j))) {
-                    return false;
-                }
+        Set<EventName> seenNames = new HashSet<>();
+        for (Event event : events) {
+            if (!seenNames.add(event.getName())) {
+                return false;
             }
         }
         return true;
@@ -3,9 +3,13 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's budget in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidBudget(String)}
+ *
+ * The amount is held as a whole number of cents, so budgets can be added and subtracted exactly.
  */
 public class Budget {
 
@@ -18,8 +22,16 @@ public class Budget {
      */
     public static final String VALIDATION_REGEX = "\\d{1,7}(\\.\\d{1,2})?";
 
+    /** The largest budget that can be entered, in cents. */
+    public static final long MAX_CENTS = 999_999_999L;
+
+    public static final Budget ZERO = new Budget(0);
+
+    /** The amount with exactly two decimal places, e.g. {@code "12.50"}. */
     public final String value;
 
+    private final long cents;
+
     /**
      * Constructs a {@code Budget}.
      *
@@ -28,14 +40,47 @@ public class Budget {
     public Budget(String budget) {
         requireNonNull(budget);
         checkArgument(isValidBudget(budget), MESSAGE_CONSTRAINTS);
-        value = String.format("%.2f", Double.parseDouble(budget));
+        int point = budget.indexOf('.');
+        if (point < 0) {
+            cents = ValidationUtil.parseDigits(budget, 0, budget.length()) * 100L;
+        } else {
+            int fraction = ValidationUtil.parseDigits(budget, point + 1, budget.length());
+            cents = ValidationUtil.parseDigits(budget, 0, point) * 100L
+                    + (budget.length() - point == 2 ? fraction * 10 : fraction);
+        }
+        value = format(cents);
+    }
+
+    private Budget(long cents) {
+        this.cents = cents;
+        this.value = format(cents);
+    }
+
+    /**
+     * Returns a {@code Budget} of {@code cents} cents.
+     *
+     * @throws IllegalArgumentException if {@code cents} is negative or more than {@link #MAX_CENTS}.
+     */
+    public static Budget ofCents(long cents) {
+        checkArgument(cents >= 0 && cents <= MAX_CENTS, MESSAGE_CONSTRAINTS);
+        return cents == 0 ? ZERO : new Budget(cents);
     }
 
     /**
      * Returns true if a given string is a valid budget.
      */
     public static boolean isValidBudget(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // Same as matching VALIDATION_REGEX
+        return ValidationUtil.isDecimal(test, 7, 2);
+    }
+
+    private static String format(long cents) {
+        long fraction = cents % 100;
+        return (cents / 100) + (fraction < 10 ? ".0" : ".") + fraction;
+    }
+
+    public long getCents() {
+        return cents;
     }
 
     @Override
@@ -47,12 +92,12 @@ public class Budget {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Budget // instanceof handles nulls
-                && value.equals(((Budget) other).value)); // state check
+                && cents == ((Budget) other).cents); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Long.hashCode(cents);
     }
 
 }
@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -18,8 +22,13 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ']*";
 
+    private static final Pattern VALIDATION_PATTERN = ValidationUtil.compile(VALIDATION_REGEX);
+
     public final String fullName;
 
+    // fullName in lower case, used for searching, sorting and hashing
+    private final String searchKey;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -29,16 +38,24 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        searchKey = name.toLowerCase();
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.matches(VALIDATION_PATTERN, test);
     }
 
 
+    /**
+     * Returns the name in lower case, for case-insensitive searching and sorting.
+     */
+    public String getSearchKey() {
+        return searchKey;
+    }
+
     @Override
     public String toString() {
         return fullName;
@@ -61,7 +78,7 @@ public class Name {
 
     @Override
     public int hashCode() {
-        return fullName.toLowerCase().hashCode();
+        return searchKey.hashCode();
     }
 
 }
@@ -1,33 +1,53 @@
 package seedu.address.model.person;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.Tag;
 
 /**
  * Tests that a {@code Person}'s {@code Name} or {@code Tags} matches any of the keywords given.
+ * A keyword matches if it is contained in the name or a tag name, ignoring case.
  */
 public class NameAndTagContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
 
+    // The keywords trimmed and in lower case, to compare with the search keys of names and tags
+    private final List<String> searchKeys;
+
+    /**
+     * Creates a predicate matching persons whose name or tags contain any of {@code keywords}.
+     */
     public NameAndTagContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.searchKeys = keywords.stream()
+                .map(keyword -> keyword.trim().toLowerCase())
+                .collect(Collectors.toList());
+    }
+
+    List<String> getSearchKeys() {
+        return searchKeys;
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> {
-                    // Check if name contains keyword
-                    if (StringUtil.containsSubstringIgnoreCase(person.getName().fullName, keyword)) {
-                        return true;
-                    }
-                    // Check if any tag contains keyword
-                    return person.getTags().stream()
-                            .anyMatch(tag -> StringUtil.containsSubstringIgnoreCase(tag.tagName, keyword));
-                });
+        String nameSearchKey = person.getName().getSearchKey();
+        for (String searchKey : searchKeys) {
+            checkArgument(!searchKey.isEmpty(), "Substring parameter cannot be empty");
+            if (nameSearchKey.contains(searchKey)) {
+                return true;
+            }
+            for (Tag tag : person.getTags()) {
+                if (tag.getSearchKey().contains(searchKey)) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 
     @Override
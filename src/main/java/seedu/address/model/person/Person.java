@@ -12,19 +12,28 @@ import seedu.address.model.tag.Tag;
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * A person read from storage may be created with {@link #Person(PersonId, Name, StoredFields)}, in which case its
+ * other fields are only decoded from their stored form when they are first accessed.
  */
 public class Person {
 
     // Identity fields
     private final Name name;
-    private final Phone phone;
-    private final Email email;
+    private volatile Phone phone;
+    private volatile Email email;
     private final PersonId id;
 
     // Data fields
-    private final Website website;
-    private final Set<Tag> tags = new HashSet<>();
-    private final Budget budget;
+    private volatile Website website;
+    private volatile Set<Tag> tags;
+    private volatile Budget budget;
+
+    // Decodes the fields above that have not been accessed yet, or null once they have all been set.
+    // Persons are read by both the command thread and the JavaFX application thread, so these fields are volatile:
+    // racing threads may both decode a field, but each sees an equal, fully constructed value. This is only cleared
+    // after every field is set, so a getter that finds it cleared also sees its own field set.
+    private volatile StoredFields storedFields;
 
     /**
      * Every field must be present and not null. Used for first creation of a person, where id is created.
@@ -36,8 +45,9 @@ public class Person {
         this.phone = phone;
         this.email = email;
         this.website = website;
-        this.tags.addAll(tags);
+        this.tags = Collections.unmodifiableSet(new HashSet<>(tags));
         this.budget = budget;
+        this.storedFields = null;
     }
 
     /**
@@ -50,8 +60,21 @@ public class Person {
         this.phone = phone;
         this.email = email;
         this.website = website;
-        this.tags.addAll(tags);
+        this.tags = Collections.unmodifiableSet(new HashSet<>(tags));
         this.budget = budget;
+        this.storedFields = null;
+    }
+
+    /**
+     * Creates a person whose name and id are given, and whose other fields are decoded from {@code storedFields}
+     * when they are first accessed. The stored fields must be known to be valid, e.g. because they were written
+     * from a {@code Person} and checked for corruption since.
+     */
+    public Person(PersonId id, Name name, StoredFields storedFields) {
+        requireAllNonNull(id, name, storedFields);
+        this.id = id;
+        this.name = name;
+        this.storedFields = storedFields;
     }
 
     public PersonId getId() {
@@ -63,18 +86,38 @@ public class Person {
     }
 
     public Phone getPhone() {
+        StoredFields stored = storedFields;
+        if (stored != null && phone == null) {
+            phone = stored.getPhone();
+            releaseStoredFieldsIfDecoded();
+        }
         return phone;
     }
 
     public Email getEmail() {
+        StoredFields stored = storedFields;
+        if (stored != null && email == null) {
+            email = stored.getEmail();
+            releaseStoredFieldsIfDecoded();
+        }
         return email;
     }
 
     public Website getWebsite() {
+        StoredFields stored = storedFields;
+        if (stored != null && website == null) {
+            website = stored.getWebsite();
+            releaseStoredFieldsIfDecoded();
+        }
         return website;
     }
 
     public Budget getBudget() {
+        StoredFields stored = storedFields;
+        if (stored != null && budget == null) {
+            budget = stored.getBudget();
+            releaseStoredFieldsIfDecoded();
+        }
         return budget;
     }
 
@@ -83,7 +126,21 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        StoredFields stored = storedFields;
+        if (stored != null && tags == null) {
+            tags = Collections.unmodifiableSet(new HashSet<>(stored.getTags()));
+            releaseStoredFieldsIfDecoded();
+        }
+        return tags;
+    }
+
+    /**
+     * Drops the stored fields once every field has been decoded from them, so that they can be garbage collected.
+     */
+    private void releaseStoredFieldsIfDecoded() {
+        if (phone != null && email != null && website != null && tags != null && budget != null) {
+            storedFields = null;
+        }
     }
 
     /**
@@ -115,26 +172,41 @@ public class Person {
 
         Person otherPerson = (Person) other;
         return name.equals(otherPerson.name)
-                && phone.equals(otherPerson.phone)
-                && email.equals(otherPerson.email)
-                && website.equals(otherPerson.website)
-                && tags.equals(otherPerson.tags)
-                && budget.equals(otherPerson.budget);
+                && getPhone().equals(otherPerson.getPhone())
+                && getEmail().equals(otherPerson.getEmail())
+                && getWebsite().equals(otherPerson.getWebsite())
+                && getTags().equals(otherPerson.getTags())
+                && getBudget().equals(otherPerson.getBudget());
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, website, tags, budget);
+        return Objects.hash(name, getPhone(), getEmail(), getWebsite(), getTags(), getBudget());
     }
 
     @Override
     public String toString() {
         return Person.class.getCanonicalName() + "{name=" + name
-                + ", phone=" + phone
-                + ", email=" + email
-                + ", website=" + website
-                + ", tags=" + tags
-                + ", budget=" + budget + "}";
+                + ", phone=" + getPhone()
+                + ", email=" + getEmail()
+                + ", website=" + getWebsite()
+                + ", tags=" + getTags()
+                + ", budget=" + getBudget() + "}";
+    }
+
+    /**
+     * The fields of a person in the form they are stored in, decoded one at a time on request.
+     */
+    public interface StoredFields {
+        Phone getPhone();
+
+        Email getEmail();
+
+        Website getWebsite();
+
+        Set<Tag> getTags();
+
+        Budget getBudget();
     }
 }
@@ -47,6 +47,10 @@ public class PersonId {
         }
     }
 
+    public UUID getUuid() {
+        return id;
+    }
+
     @Override
     public String toString() {
         return id.toString();
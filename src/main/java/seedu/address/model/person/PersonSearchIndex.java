@@ -0,0 +1,136 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index from every three-character substring (trigram) of the lower-cased names and tag names of persons to the
+ * persons that contain it.
+ *
+ * A person whose name or tag contains a keyword of at least three characters must appear under every trigram of
+ * that keyword, so the persons under the least common one are the only candidates for a match. Shorter keywords
+ * cannot be narrowed down this way and match any person as a candidate.
+ *
+ * Persons are only put under their trigrams when candidates are next worked out, so that adding persons, such as
+ * when the data file is loaded, does not decode the tags of persons read from storage before any search needs them.
+ */
+class PersonSearchIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Person>> personsByTrigram = new HashMap<>();
+    private final Set<Person> pendingPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+    private int modificationCount;
+
+    /**
+     * Adds {@code person} to the index. It is put under the trigrams of its name and tags when candidates are next
+     * worked out.
+     */
+    void add(Person person) {
+        modificationCount++;
+        pendingPersons.add(person);
+    }
+
+    /**
+     * Removes {@code person}, which must have been added, from the index.
+     */
+    void remove(Person person) {
+        modificationCount++;
+        if (pendingPersons.remove(person)) {
+            return;
+        }
+        for (String trigram : getTrigrams(person)) {
+            Set<Person> persons = personsByTrigram.get(trigram);
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                personsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    void clear() {
+        modificationCount++;
+        personsByTrigram.clear();
+        pendingPersons.clear();
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that only tests the persons in this index that are
+     * candidates for a match, and rejects the rest with a single lookup.
+     * The candidates are worked out again whenever this index has changed since they were last used.
+     */
+    Predicate<Person> narrow(NameAndTagContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return new Predicate<>() {
+            private int candidatesModificationCount = -1;
+            private Set<Person> candidates;
+
+            @Override
+            public boolean test(Person person) {
+                if (candidatesModificationCount != modificationCount) {
+                    candidates = getCandidates(predicate.getSearchKeys());
+                    candidatesModificationCount = modificationCount;
+                }
+                return (candidates == null || candidates.contains(person)) && predicate.test(person);
+            }
+        };
+    }
+
+    /**
+     * Returns the persons that may match any of {@code searchKeys}, or null if any person may match.
+     */
+    private Set<Person> getCandidates(List<String> searchKeys) {
+        indexPendingPersons();
+        Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String searchKey : searchKeys) {
+            if (searchKey.length() < GRAM_LENGTH) {
+                return null;
+            }
+
+            Set<Person> leastCommon = null;
+            for (int i = 0; i + GRAM_LENGTH <= searchKey.length(); i++) {
+                Set<Person> persons = personsByTrigram.getOrDefault(
+                        searchKey.substring(i, i + GRAM_LENGTH), Collections.emptySet());
+                if (leastCommon == null || persons.size() < leastCommon.size()) {
+                    leastCommon = persons;
+                }
+            }
+            candidates.addAll(leastCommon);
+        }
+        return candidates;
+    }
+
+    private void indexPendingPersons() {
+        for (Person person : pendingPersons) {
+            for (String trigram : getTrigrams(person)) {
+                personsByTrigram.computeIfAbsent(trigram,
+                        unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(person);
+            }
+        }
+        pendingPersons.clear();
+    }
+
+    private static Set<String> getTrigrams(Person person) {
+        Set<String> trigrams = new HashSet<>();
+        addTrigrams(trigrams, person.getName().getSearchKey());
+        for (Tag tag : person.getTags()) {
+            addTrigrams(trigrams, tag.getSearchKey());
+        }
+        return trigrams;
+    }
+
+    private static void addTrigrams(Set<String> trigrams, String searchKey) {
+        for (int i = 0; i + GRAM_LENGTH <= searchKey.length(); i++) {
+            trigrams.add(searchKey.substring(i, i + GRAM_LENGTH));
+        }
+    }
+}
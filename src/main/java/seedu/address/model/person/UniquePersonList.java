@@ -3,11 +3,18 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.BatchedObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -20,20 +27,33 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * A {@code PersonId} index and an index of the identity fields used by {@code Person#isSamePerson(Person)} are
+ * kept in sync with the internal list, so that lookups by id and duplicate checks run in constant time.
+ *
+ * A {@link PersonSearchIndex} of the names and tags of the persons is kept as well. All indexes are updated before
+ * the internal list, so that listeners of the list, such as a filtered view, see indexes that match the new contents.
+ *
+ * An immutable copy of the list is cached until the next modification, so that repeated snapshots of an unchanged
+ * list share the same copy.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Person> internalList = new BatchedObservableList<>();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<PersonId, Person> personsById = new HashMap<>();
+    private final Set<Name> names = new HashSet<>();
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
+    private List<Person> frozenList;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return names.contains(toCheck.getName());
     }
 
     /**
@@ -45,9 +65,23 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        index(toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Inserts a person into the list at position {@code index}.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        index(toAdd);
+        internalList.add(index, toAdd);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -65,6 +99,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        unindex(internalList.get(index));
+        index(editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -74,13 +110,17 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        unindex(internalList.get(index));
+        internalList.remove(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        reindex(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -94,9 +134,64 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        reindex(persons);
         internalList.setAll(persons);
     }
 
+    /**
+     * Returns the person with the given {@code id}, or an empty {@code Optional} if there is no such person.
+     */
+    public Optional<Person> getPersonById(PersonId id) {
+        requireNonNull(id);
+        return Optional.ofNullable(personsById.get(id));
+    }
+
+    /**
+     * Returns an immutable copy of the current contents of this list.
+     * The copy is reused until this list is next modified.
+     */
+    public List<Person> asFrozenList() {
+        if (frozenList == null) {
+            frozenList = List.copyOf(internalList);
+        }
+        return frozenList;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code frozenPersons}, which must have been obtained from
+     * {@link #asFrozenList()} of a {@code UniquePersonList}.
+     * Such a list is known to be unique and immutable, so it is neither checked for duplicates nor copied.
+     */
+    public void restoreFrozenList(List<Person> frozenPersons) {
+        requireNonNull(frozenPersons);
+        reindex(frozenPersons);
+        internalList.setAll(frozenPersons);
+        frozenList = frozenPersons;
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that uses the search index of this list to skip persons in
+     * this list that cannot match.
+     */
+    public Predicate<Person> narrow(NameAndTagContainsKeywordsPredicate predicate) {
+        return searchIndex.narrow(predicate);
+    }
+
+    /**
+     * Starts a batch of modifications, which are reported to listeners of this list as a single change when the
+     * matching {@link #endBatch()} is called.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -138,15 +233,45 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    private void index(Person added) {
+        frozenList = null;
+        personsById.put(added.getId(), added);
+        names.add(added.getName());
+        searchIndex.add(added);
+    }
+
+    /**
+     * Removes the index entries of {@code removed}.
+     * The id mapping is kept if the id has since been taken over by another person.
+     */
+    private void unindex(Person removed) {
+        frozenList = null;
+        personsById.remove(removed.getId(), removed);
+        names.remove(removed.getName());
+        searchIndex.remove(removed);
+    }
+
+    /**
+     * Rebuilds the indexes for {@code persons}, which are about to replace the contents of the internal list.
+     */
+    private void reindex(List<Person> persons) {
+        frozenList = null;
+        personsById.clear();
+        names.clear();
+        searchIndex.clear();
+        for (Person person : persons) {
+            index(person);
+        }
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Name> seenNames = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenNames.add(person.getName())) {
+                return false;
             }
         }
         return true;
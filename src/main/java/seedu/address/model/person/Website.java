@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's website in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidWebsite(String)}
@@ -22,6 +26,8 @@ public class Website {
             "^(?:https?://)?(?:www\\.)?[a-zA-Z0-9]([a-zA-Z0-9-]*[a-zA-Z0-9])?"
                     + "(\\.[a-zA-Z0-9]([a-zA-Z0-9-]*[a-zA-Z0-9])?)*\\.[a-zA-Z]{2,}(?:/.*)?$";
 
+    private static final Pattern VALIDATION_PATTERN = ValidationUtil.compile(VALIDATION_REGEX);
+
     public final String value;
 
     /**
@@ -48,7 +54,7 @@ public class Website {
             return false;
         }
 
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.matches(VALIDATION_PATTERN, test);
     }
 
     @Override
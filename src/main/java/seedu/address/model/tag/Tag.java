@@ -3,6 +3,10 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,8 +16,13 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Pattern VALIDATION_PATTERN = ValidationUtil.compile(VALIDATION_REGEX);
+
     public final String tagName;
 
+    // tagName in lower case, used for searching
+    private final String searchKey;
+
     /**
      * Constructs a {@code Tag}.
      *
@@ -23,13 +32,21 @@ public class Tag {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         this.tagName = tagName;
+        this.searchKey = tagName.toLowerCase();
     }
 
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.matches(VALIDATION_PATTERN, test);
+    }
+
+    /**
+     * Returns the tag name in lower case, for case-insensitive searching.
+     */
+    public String getSearchKey() {
+        return searchKey;
     }
 
     @Override
@@ -0,0 +1,146 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.exceptions.DataCorruptionException;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Computes the integrity checksum of address book data one person or event at a time.
+ *
+ * The checksum is the hex-encoded SHA-256 hash of the JSON of an object holding only the persons and events, in the
+ * format written by {@link JsonUtil}. Persons must be added before events; otherwise the checksum cannot be computed.
+ */
+class AddressBookChecksum {
+
+    public static final String MESSAGE_CORRUPTED_DATA = "Your data file appears to be corrupted or has been "
+            + "manually modified. Please delete the data file and relaunch the application to regenerate a fresh one.";
+
+    // Written once with the same generator settings as the data, as the object end depends on the pretty printer
+    private static final byte[] OBJECT_END = writeObjectEnd();
+
+    private enum Section { NONE, PERSONS, EVENTS }
+
+    private final MessageDigest digest = newDigest();
+    private final JsonGenerator generator;
+    private Section section = Section.NONE;
+    private boolean isOutOfOrder = false;
+
+    AddressBookChecksum() throws IOException {
+        generator = JsonUtil.createGenerator(new DigestOutputStream(OutputStream.nullOutputStream(), digest));
+        generator.writeStartObject();
+    }
+
+    /**
+     * Includes {@code person} in the checksum.
+     */
+    void addPerson(JsonAdaptedPerson person) throws IOException {
+        if (section == Section.EVENTS) {
+            isOutOfOrder = true;
+        }
+        if (isOutOfOrder) {
+            return;
+        }
+        startSection(Section.PERSONS);
+        generator.writeObject(person);
+    }
+
+    /**
+     * Includes {@code event} in the checksum.
+     */
+    void addEvent(JsonAdaptedEvent event) throws IOException {
+        if (isOutOfOrder) {
+            return;
+        }
+        startSection(Section.EVENTS);
+        generator.writeObject(event);
+    }
+
+    /**
+     * Returns the checksum of the persons and events added, or null if they were not added in order.
+     */
+    String getChecksum() throws IOException {
+        if (isOutOfOrder) {
+            return null;
+        }
+        startSection(Section.EVENTS);
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.flush();
+        return toHex(digest.digest());
+    }
+
+    private void startSection(Section next) throws IOException {
+        while (section != next) {
+            if (section != Section.NONE) {
+                generator.writeEndArray();
+            }
+            section = section == Section.NONE ? Section.PERSONS : Section.EVENTS;
+            generator.writeArrayFieldStart(section == Section.PERSONS ? "persons" : "events");
+        }
+    }
+
+    /**
+     * Throws a {@code DataCorruptionException} if {@code storedChecksum} is present and does not match
+     * {@code computedChecksum}. Data without a stored checksum is accepted.
+     */
+    static void validate(String storedChecksum, String computedChecksum) throws DataCorruptionException {
+        if (storedChecksum == null || storedChecksum.isEmpty()) {
+            return;
+        }
+        if (!storedChecksum.equalsIgnoreCase(computedChecksum)) {
+            throw new DataCorruptionException(MESSAGE_CORRUPTED_DATA);
+        }
+    }
+
+    static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("Every Java platform supports SHA-256.", e);
+        }
+    }
+
+    /**
+     * Returns the bytes that end a non-empty top-level JSON object in the format written by {@link JsonUtil}.
+     */
+    static byte[] getObjectEnd() {
+        return OBJECT_END.clone();
+    }
+
+    private static byte[] writeObjectEnd() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("events");
+            generator.writeEndArray();
+            generator.flush();
+            int objectEndStart = out.size();
+            generator.writeEndObject();
+            generator.flush();
+            return Arrays.copyOfRange(out.toByteArray(), objectEndStart, out.size());
+        } catch (IOException e) {
+            throw new AssertionError("Writing to memory should not fail.", e);
+        }
+    }
+
+    static String toHex(byte[] hash) {
+        StringBuilder hexString = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            String hex = Integer.toHexString(0xff & b);
+            if (hex.length() == 1) {
+                hexString.append('0');
+            }
+            hexString.append(hex);
+        }
+        return hexString.toString();
+    }
+}
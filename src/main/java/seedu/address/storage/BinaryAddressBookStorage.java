@@ -0,0 +1,404 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventDate;
+import seedu.address.model.event.EventName;
+import seedu.address.model.event.EventTime;
+import seedu.address.model.person.Budget;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Website;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ *
+ * The file starts with a magic number and a format version, followed by a table of every distinct string in the
+ * data, the person records, the event records and a CRC32 of everything before it. Records refer to strings by their
+ * position in the table, store ids as two {@code long}s and budgets as a number of cents. Every record is prefixed
+ * with its length, so fields appended to records by later versions are skipped by earlier ones.
+ *
+ * Files in the JSON format of {@link JournaledAddressBookStorage} are read as well, together with their journal, so
+ * switching to this storage keeps existing data; they are replaced by the binary format on the next save, which also
+ * removes the journal.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final int MAGIC = 0x41425342; // "ABSB"
+    public static final int VERSION = 1;
+
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary data file version: %d";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Binary data file is corrupted (checksum mismatch).";
+    public static final String MESSAGE_INVALID_RECORD = "Binary data file contains an invalid record.";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        logger.info("Reading AddressBook data from " + filePath);
+        if (!Files.exists(filePath)) {
+            logger.info("AddressBook file not found at " + filePath + "; returning empty Optional.");
+            return Optional.empty();
+        }
+
+        try {
+            if (!isBinaryFile(filePath)) {
+                logger.info(filePath + " is not a binary data file; reading it as JSON.");
+                return new JournaledAddressBookStorage(filePath).readAddressBook(filePath);
+            }
+
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+                AddressBook addressBook = read(in);
+                logger.info("Successfully loaded AddressBook from " + filePath);
+                return Optional.of(addressBook);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        logger.info("Saving AddressBook to " + filePath);
+        FileUtil.writeAtomically(filePath, out -> {
+            CheckedOutputStream checkedOut = new CheckedOutputStream(out, new CRC32());
+            DataOutputStream dataOut = new DataOutputStream(new BufferedOutputStream(checkedOut));
+            write(addressBook, dataOut);
+            dataOut.flush();
+            new DataOutputStream(out).writeLong(checkedOut.getChecksum().getValue());
+        });
+        logger.info("Saved AddressBook to " + filePath);
+
+        // The changes in the journal of a JSON file that was read are now part of the binary file
+        Files.deleteIfExists(JournaledAddressBookStorage.getJournalFilePath(filePath));
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts with the magic number of the binary format.
+     */
+    static boolean isBinaryFile(Path filePath) throws IOException {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(filePath))) {
+            return in.readInt() == MAGIC;
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    private static void write(ReadOnlyAddressBook addressBook, DataOutputStream out) throws IOException {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            intern(strings, person.getName().fullName);
+            intern(strings, person.getPhone().value);
+            intern(strings, person.getEmail().value);
+            intern(strings, person.getWebsite().value);
+            for (Tag tag : person.getTags()) {
+                intern(strings, tag.tagName);
+            }
+        }
+        for (Event event : addressBook.getEventList()) {
+            intern(strings, event.getName().fullName);
+            intern(strings, event.getDate().value);
+            intern(strings, event.getTime().value);
+        }
+
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(strings.size());
+        for (String string : strings.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+
+        out.writeInt(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            recordBytes.reset();
+            writeId(record, person.getId());
+            record.writeInt(strings.get(person.getName().fullName));
+            record.writeInt(strings.get(person.getPhone().value));
+            record.writeInt(strings.get(person.getEmail().value));
+            record.writeInt(strings.get(person.getWebsite().value));
+            record.writeLong(person.getBudget().getCents());
+            record.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                record.writeInt(strings.get(tag.tagName));
+            }
+            out.writeInt(recordBytes.size());
+            recordBytes.writeTo(out);
+        }
+
+        out.writeInt(addressBook.getEventList().size());
+        for (Event event : addressBook.getEventList()) {
+            recordBytes.reset();
+            record.writeInt(strings.get(event.getName().fullName));
+            record.writeInt(strings.get(event.getDate().value));
+            record.writeInt(strings.get(event.getTime().value));
+            record.writeLong(event.getInitialBudget().getCents());
+            record.writeLong(event.getRemainingBudget().getCents());
+            record.writeInt(event.getParticipants().size());
+            for (PersonId participant : event.getParticipants()) {
+                writeId(record, participant);
+            }
+            out.writeInt(recordBytes.size());
+            recordBytes.writeTo(out);
+        }
+    }
+
+    private static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        CheckedInputStream checkedIn = new CheckedInputStream(in, new CRC32());
+        DataInputStream dataIn = new DataInputStream(checkedIn);
+        if (dataIn.readInt() != MAGIC) {
+            throw new IOException(MESSAGE_INVALID_RECORD);
+        }
+        int version = dataIn.readInt();
+        if (version != VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        String[] strings = new String[readCount(dataIn)];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = new String(readBytes(dataIn, readCount(dataIn)), StandardCharsets.UTF_8);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        int personCount = readCount(dataIn);
+        for (int i = 0; i < personCount; i++) {
+            Person person = readStoredPerson(ByteBuffer.wrap(readBytes(dataIn, readCount(dataIn))), strings);
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(JsonAddressBookReader.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        }
+        int eventCount = readCount(dataIn);
+        for (int i = 0; i < eventCount; i++) {
+            Event event = readEvent(ByteBuffer.wrap(readBytes(dataIn, readCount(dataIn))), strings);
+            if (addressBook.hasEvent(event)) {
+                throw new IllegalValueException(JsonAddressBookReader.MESSAGE_DUPLICATE_EVENT);
+            }
+            addressBook.addEvent(event);
+        }
+
+        long computedChecksum = checkedIn.getChecksum().getValue();
+        if (dataIn.readLong() != computedChecksum) {
+            throw new IOException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Decodes the id and name of the person record in {@code record}, and checks that the other fields refer to
+     * strings in {@code strings}. The other fields are only decoded when they are first accessed, so this must only
+     * be used for records whose checksum is checked before they are used.
+     *
+     * @throws IllegalValueException if the record is invalid.
+     */
+    private static Person readStoredPerson(ByteBuffer record, String[] strings) throws IllegalValueException {
+        try {
+            PersonId id = readId(record);
+            Name name = new Name(readString(record, strings));
+            StoredPersonFields storedFields = new StoredPersonFields(record, strings);
+            storedFields.checkRefs();
+            return new Person(id, name, storedFields);
+        } catch (IllegalArgumentException | BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_RECORD, e);
+        }
+    }
+
+    private static Event readEvent(ByteBuffer record, String[] strings) throws IllegalValueException {
+        try {
+            EventName name = new EventName(readString(record, strings));
+            EventDate date = new EventDate(readString(record, strings));
+            EventTime time = new EventTime(readString(record, strings));
+            Budget initialBudget = Budget.ofCents(record.getLong());
+            Budget remainingBudget = Budget.ofCents(record.getLong());
+            int participantCount = record.getInt();
+            List<PersonId> participants = new ArrayList<>();
+            for (int i = 0; i < participantCount; i++) {
+                participants.add(readId(record));
+            }
+            return new Event(name, date, time, participants, initialBudget, remainingBudget);
+        } catch (IllegalArgumentException | BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_RECORD, e);
+        }
+    }
+
+    private static void intern(Map<String, Integer> strings, String string) {
+        strings.putIfAbsent(string, strings.size());
+    }
+
+    private static String readString(ByteBuffer record, String[] strings) {
+        return strings[record.getInt()];
+    }
+
+    private static void writeId(DataOutputStream out, PersonId id) throws IOException {
+        out.writeLong(id.getUuid().getMostSignificantBits());
+        out.writeLong(id.getUuid().getLeastSignificantBits());
+    }
+
+    private static PersonId readId(ByteBuffer record) {
+        return new PersonId(new UUID(record.getLong(), record.getLong()));
+    }
+
+    private static int readCount(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException(MESSAGE_INVALID_RECORD);
+        }
+        return count;
+    }
+
+    private static byte[] readBytes(DataInputStream in, int length) throws IOException {
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    /**
+     * The fields of a person record after its id and name, decoded from the record when they are first accessed.
+     */
+    private static class StoredPersonFields implements Person.StoredFields {
+        private static final int PHONE = 2 * Long.BYTES + Integer.BYTES;
+        private static final int EMAIL = PHONE + Integer.BYTES;
+        private static final int WEBSITE = EMAIL + Integer.BYTES;
+        private static final int BUDGET = WEBSITE + Integer.BYTES;
+        private static final int TAG_COUNT = BUDGET + Long.BYTES;
+        private static final int TAGS = TAG_COUNT + Integer.BYTES;
+
+        // Only read at absolute positions, so it can be shared by threads
+        private final ByteBuffer record;
+        private final String[] strings;
+
+        StoredPersonFields(ByteBuffer record, String[] strings) {
+            this.record = record;
+            this.strings = strings;
+        }
+
+        /**
+         * Throws an {@code IndexOutOfBoundsException} if the record is too short or refers to a missing string.
+         */
+        void checkRefs() {
+            int tagCount = record.getInt(TAG_COUNT);
+            if (tagCount < 0 || record.limit() < TAGS + (long) tagCount * Integer.BYTES) {
+                throw new IndexOutOfBoundsException(MESSAGE_INVALID_RECORD);
+            }
+            for (int position : new int[] {PHONE, EMAIL, WEBSITE}) {
+                Objects.checkIndex(record.getInt(position), strings.length);
+            }
+            for (int i = 0; i < tagCount; i++) {
+                Objects.checkIndex(record.getInt(TAGS + i * Integer.BYTES), strings.length);
+            }
+        }
+
+        @Override
+        public Phone getPhone() {
+            return new Phone(strings[record.getInt(PHONE)]);
+        }
+
+        @Override
+        public Email getEmail() {
+            return new Email(strings[record.getInt(EMAIL)]);
+        }
+
+        @Override
+        public Website getWebsite() {
+            return new Website(strings[record.getInt(WEBSITE)]);
+        }
+
+        @Override
+        public Set<Tag> getTags() {
+            int tagCount = record.getInt(TAG_COUNT);
+            Set<Tag> tags = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(new Tag(strings[record.getInt(TAGS + i * Integer.BYTES)]));
+            }
+            return tags;
+        }
+
+        @Override
+        public Budget getBudget() {
+            return Budget.ofCents(record.getLong(BUDGET));
+        }
+    }
+}
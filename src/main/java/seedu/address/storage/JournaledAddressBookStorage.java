@@ -0,0 +1,430 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file together with an append-only journal of the
+ * changes made since the snapshot was written.
+ *
+ * Saving appends one record per added, changed or removed person or event to the journal and forces it to disk, so
+ * the amount written depends on the size of the change rather than the size of the address book. Once the journal
+ * holds more than a threshold number of records, the next save writes a fresh snapshot and starts a new journal.
+ * Reading replays the journal on top of the snapshot, unless the snapshot no longer matches its stored checksum
+ * because it was edited by hand, in which case the journal is discarded. The snapshot has the same format as the file
+ * written by {@link JsonAddressBookStorage}.
+ *
+ * Files in the format of {@link BinaryAddressBookStorage} are read as well, so switching back to this storage keeps
+ * existing data; they are replaced by a snapshot on the next save.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int compactionThreshold;
+
+    // The data in storage at filePath, or null if it has not been read or written through this object
+    private List<Person> savedPersons;
+    private List<Event> savedEvents;
+    private int journalSize;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage that writes a fresh snapshot once the journal holds more than {@code compactionThreshold}
+     * records.
+     */
+    public JournaledAddressBookStorage(Path filePath, int compactionThreshold) {
+        requireNonNull(filePath);
+        checkArgument(compactionThreshold > 0, "Compaction threshold must be positive.");
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the location of the journal that belongs to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        logger.info("Reading AddressBook data from " + filePath);
+
+        if (isBinaryFile(filePath)) {
+            logger.info(filePath + " is a binary data file; reading it as binary.");
+            Optional<ReadOnlyAddressBook> addressBook = new BinaryAddressBookStorage(filePath).readAddressBook();
+            if (filePath.equals(this.filePath)) {
+                // Replaced by a snapshot on the next save
+                savedPersons = null;
+                savedEvents = null;
+                journalSize = 0;
+            }
+            return addressBook;
+        }
+
+        Optional<JsonAddressBookReader> snapshot = JsonAddressBookStorage.readData(filePath);
+        if (snapshot.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Person> persons = new ArrayList<>(snapshot.get().getAddressBook().getPersonList());
+        List<Event> events = new ArrayList<>(snapshot.get().getAddressBook().getEventList());
+        int replayed;
+        if (!isUnmodified(snapshot.get())) {
+            // The journal records changes to the snapshot as written, so replaying it would undo the edits made since
+            logger.warning("Ignoring journal of " + filePath + " as the snapshot was modified outside the app");
+            replayed = -1;
+        } else {
+            try {
+                replayed = replayJournal(getJournalFilePath(filePath), snapshot.get().getStoredChecksum(),
+                        persons, events);
+            } catch (IOException | IllegalValueException e) {
+                logger.info("Could not replay journal of " + filePath + ": " + e.getMessage());
+                throw new DataLoadingException(e);
+            }
+        }
+
+        AddressBook addressBook;
+        try {
+            addressBook = toAddressBook(persons, events);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in journal of " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            // Without an intact journal, the next save has to start a new one with a fresh snapshot
+            savedPersons = replayed < 0 ? null : List.copyOf(persons);
+            savedEvents = replayed < 0 ? null : List.copyOf(events);
+            journalSize = Math.max(replayed, 0);
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only changes to the data last read from or written to {@link #getAddressBookFilePath()} are journaled;
+     * other locations always receive a full snapshot.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = List.copyOf(addressBook.getPersonList());
+        List<Event> events = List.copyOf(addressBook.getEventList());
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(addressBook, filePath);
+            return;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        boolean canJournal = savedPersons != null
+                && diff(savedPersons, persons, Person::getId, JsonAdaptedJournalEntry::putPerson,
+                        JsonAdaptedJournalEntry::removePerson, entries)
+                && diff(savedEvents, events, Event::getName, JsonAdaptedJournalEntry::putEvent,
+                        JsonAdaptedJournalEntry::removeEvent, entries);
+
+        // Forget the saved data until the write succeeds, so that a failed write is followed by a fresh snapshot
+        savedPersons = null;
+        savedEvents = null;
+        if (canJournal && journalSize + entries.size() <= compactionThreshold) {
+            logger.fine("Appending " + entries.size() + " record(s) to the journal of " + filePath);
+            appendToJournal(getJournalFilePath(filePath), entries);
+            journalSize += entries.size();
+        } else {
+            writeSnapshot(addressBook, filePath);
+            journalSize = 0;
+        }
+        savedPersons = persons;
+        savedEvents = events;
+    }
+
+    /**
+     * Writes {@code addressBook} as a snapshot to {@code filePath} and starts an empty journal for it.
+     */
+    private static void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        logger.info("Saving AddressBook snapshot to " + filePath);
+        String checksum = JsonAddressBookStorage.writeData(addressBook, filePath);
+
+        // A journal whose base does not match the snapshot is ignored, so a crash before this point loses nothing
+        Path journalPath = getJournalFilePath(filePath);
+        Files.deleteIfExists(journalPath);
+        appendToJournal(journalPath, List.of(JsonAdaptedJournalEntry.base(checksum)));
+        logger.info("Saved AddressBook snapshot to " + filePath);
+    }
+
+    /**
+     * Appends {@code entries} to the journal at {@code journalPath}, one per line, and forces them to disk.
+     */
+    private static void appendToJournal(Path journalPath, List<JsonAdaptedJournalEntry> entries) throws IOException {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        StringBuilder records = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            records.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(records.toString().getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    private static boolean isBinaryFile(Path filePath) throws DataLoadingException {
+        try {
+            return Files.exists(filePath) && BinaryAddressBookStorage.isBinaryFile(filePath);
+        } catch (IOException e) {
+            logger.warning("Error reading from file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns true if the data in {@code snapshot} is the data that was written with its stored checksum.
+     */
+    private static boolean isUnmodified(JsonAddressBookReader snapshot) {
+        return snapshot.getStoredChecksum() != null
+                && snapshot.getStoredChecksum().equalsIgnoreCase(snapshot.getComputedChecksum());
+    }
+
+    /**
+     * Applies the records in the journal at {@code journalPath} to {@code persons} and {@code events}.
+     * The journal is ignored if it is missing or was not started for the snapshot with {@code snapshotChecksum}.
+     * A record that cannot be parsed ends the journal, as it can only be left by an interrupted append.
+     *
+     * @return the number of records applied, or -1 if no more records can be appended to the journal because it is
+     *     missing, belongs to another snapshot or ends with an unreadable record.
+     * @throws IllegalValueException if a record contains invalid data.
+     */
+    private static int replayJournal(Path journalPath, String snapshotChecksum, List<Person> persons,
+            List<Event> events) throws IOException, IllegalValueException {
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        } catch (NoSuchFileException e) {
+            return -1;
+        }
+
+        if (lines.isEmpty()) {
+            return -1;
+        }
+
+        int applied = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                logger.warning("Ignoring unreadable journal records from line " + (i + 1) + " of " + journalPath);
+                return -1;
+            }
+
+            if (i == 0) {
+                if (entry.getAction() != JsonAdaptedJournalEntry.Action.BASE
+                        || !Objects.equals(entry.getKey(), snapshotChecksum)) {
+                    logger.info("Ignoring journal " + journalPath + " as it does not belong to the current snapshot");
+                    return -1;
+                }
+                continue;
+            }
+            apply(entry, persons, events);
+            applied++;
+        }
+        logger.info("Replayed " + applied + " journal record(s) from " + journalPath);
+        return applied;
+    }
+
+    private static void apply(JsonAdaptedJournalEntry entry, List<Person> persons, List<Event> events)
+            throws IllegalValueException {
+        if (entry.getAction() == null) {
+            throw new IllegalValueException("Journal record has no action.");
+        }
+
+        switch (entry.getAction()) {
+        case PUT_PERSON:
+            requireRecordField(entry.getPerson());
+            put(persons, requireRecordField(entry.getIndex()), entry.getPerson().toModelType(), Person::getId);
+            break;
+        case REMOVE_PERSON:
+            PersonId personId = new PersonId(parsePersonId(entry.getKey()));
+            persons.removeIf(person -> person.getId().equals(personId));
+            break;
+        case PUT_EVENT:
+            requireRecordField(entry.getEvent());
+            put(events, requireRecordField(entry.getIndex()), entry.getEvent().toModelType(), Event::getName);
+            break;
+        case REMOVE_EVENT:
+            String eventName = requireRecordField(entry.getKey());
+            events.removeIf(event -> event.getName().fullName.equalsIgnoreCase(eventName));
+            break;
+        default:
+            throw new IllegalValueException("Unexpected journal record: " + entry.getAction());
+        }
+    }
+
+    private static <T> T requireRecordField(T field) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException("Journal record is missing a field.");
+        }
+        return field;
+    }
+
+    private static String parsePersonId(String key) throws IllegalValueException {
+        if (key == null || !PersonId.isValidPersonId(key)) {
+            throw new IllegalValueException("Journal record has an invalid person id.");
+        }
+        return key;
+    }
+
+    /**
+     * Replaces the item in {@code items} with the same key as {@code item}, or inserts {@code item} at
+     * {@code index} if there is none.
+     */
+    private static <T, K> void put(List<T> items, int index, T item, Function<T, K> keyOf) {
+        K key = keyOf.apply(item);
+        for (int i = 0; i < items.size(); i++) {
+            if (keyOf.apply(items.get(i)).equals(key)) {
+                items.set(i, item);
+                return;
+            }
+        }
+        items.add(Math.max(0, Math.min(index, items.size())), item);
+    }
+
+    /**
+     * Adds the records that turn {@code oldItems} into {@code newItems} to {@code entries}.
+     * Returns false if the items that are in both lists are not in the same relative order, in which case the
+     * change cannot be journaled.
+     */
+    private static <T, K> boolean diff(List<T> oldItems, List<T> newItems, Function<T, K> keyOf,
+            PutRecord<T> putRecord, Function<T, JsonAdaptedJournalEntry> removeRecord,
+            List<JsonAdaptedJournalEntry> entries) {
+        Map<K, T> oldByKey = new HashMap<>();
+        for (T item : oldItems) {
+            oldByKey.put(keyOf.apply(item), item);
+        }
+        Map<K, T> newByKey = new HashMap<>();
+        for (T item : newItems) {
+            newByKey.put(keyOf.apply(item), item);
+        }
+
+        List<K> keptInOldOrder = new ArrayList<>();
+        for (T item : oldItems) {
+            K key = keyOf.apply(item);
+            if (newByKey.containsKey(key)) {
+                keptInOldOrder.add(key);
+            } else {
+                entries.add(removeRecord.apply(item));
+            }
+        }
+
+        int kept = 0;
+        for (int i = 0; i < newItems.size(); i++) {
+            T item = newItems.get(i);
+            T oldItem = oldByKey.get(keyOf.apply(item));
+            if (oldItem != null && !keyOf.apply(item).equals(keptInOldOrder.get(kept++))) {
+                return false;
+            }
+            if (oldItem == null || !oldItem.equals(item)) {
+                entries.add(putRecord.apply(i, item));
+            }
+        }
+        return true;
+    }
+
+    private static AddressBook toAddressBook(List<Person> persons, List<Event> events) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : persons) {
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(JsonAddressBookReader.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        }
+        for (Event event : events) {
+            if (addressBook.hasEvent(event)) {
+                throw new IllegalValueException(JsonAddressBookReader.MESSAGE_DUPLICATE_EVENT);
+            }
+            addressBook.addEvent(event);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Creates the journal record for an item put at an index.
+     */
+    @FunctionalInterface
+    private interface PutRecord<T> {
+        JsonAdaptedJournalEntry apply(int index, T item);
+    }
+}
@@ -82,7 +82,7 @@ class JsonAdaptedEvent {
 
         final Budget modelInitialBudget;
         if (initialBudget == null) {
-            modelInitialBudget = new Budget("0");
+            modelInitialBudget = Budget.ZERO;
         } else {
             if (!Budget.isValidBudget(initialBudget)) {
                 throw new IllegalValueException(Budget.MESSAGE_CONSTRAINTS);
@@ -92,7 +92,7 @@ class JsonAdaptedEvent {
 
         final Budget modelRemainingBudget;
         if (remainingBudget == null) {
-            modelRemainingBudget = new Budget("0");
+            modelRemainingBudget = Budget.ZERO;
         } else {
             if (!Budget.isValidBudget(remainingBudget)) {
                 throw new IllegalValueException(Budget.MESSAGE_CONSTRAINTS);
@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single record in the address book journal.
+ *
+ * A journal starts with a {@code BASE} record holding the checksum of the snapshot it applies to, followed by one
+ * record per person or event that was added, changed or removed. {@code PUT} records replace the entry with the same
+ * key in place, or insert the entry at {@code index} if there is none.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    /**
+     * The kinds of journal records.
+     */
+    enum Action {
+        BASE, PUT_PERSON, REMOVE_PERSON, PUT_EVENT, REMOVE_EVENT
+    }
+
+    private final Action action;
+    private final String key;
+    private final Integer index;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedEvent event;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("action") Action action, @JsonProperty("key") String key,
+            @JsonProperty("index") Integer index, @JsonProperty("person") JsonAdaptedPerson person,
+            @JsonProperty("event") JsonAdaptedEvent event) {
+        this.action = action;
+        this.key = key;
+        this.index = index;
+        this.person = person;
+        this.event = event;
+    }
+
+    /**
+     * Returns a record marking the start of a journal that applies to the snapshot with {@code checksum}.
+     */
+    static JsonAdaptedJournalEntry base(String checksum) {
+        return new JsonAdaptedJournalEntry(Action.BASE, checksum, null, null, null);
+    }
+
+    /**
+     * Returns a record of {@code person} being added at {@code index} or replacing the person with the same id.
+     */
+    static JsonAdaptedJournalEntry putPerson(int index, Person person) {
+        return new JsonAdaptedJournalEntry(Action.PUT_PERSON, person.getId().toString(), index,
+                new JsonAdaptedPerson(person), null);
+    }
+
+    /**
+     * Returns a record of {@code person} being removed.
+     */
+    static JsonAdaptedJournalEntry removePerson(Person person) {
+        return new JsonAdaptedJournalEntry(Action.REMOVE_PERSON, person.getId().toString(), null, null, null);
+    }
+
+    /**
+     * Returns a record of {@code event} being added at {@code index} or replacing the event with the same name.
+     */
+    static JsonAdaptedJournalEntry putEvent(int index, Event event) {
+        return new JsonAdaptedJournalEntry(Action.PUT_EVENT, event.getName().toString(), index, null,
+                new JsonAdaptedEvent(event));
+    }
+
+    /**
+     * Returns a record of {@code event} being removed.
+     */
+    static JsonAdaptedJournalEntry removeEvent(Event event) {
+        return new JsonAdaptedJournalEntry(Action.REMOVE_EVENT, event.getName().toString(), null, null, null);
+    }
+
+    public Action getAction() {
+        return action;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public Integer getIndex() {
+        return index;
+    }
+
+    public JsonAdaptedPerson getPerson() {
+        return person;
+    }
+
+    public JsonAdaptedEvent getEvent() {
+        return event;
+    }
+}
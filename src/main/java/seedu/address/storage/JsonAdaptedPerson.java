@@ -107,7 +107,7 @@ class JsonAdaptedPerson {
 
         final Budget modelBudget;
         if (budget == null) {
-            modelBudget = new Budget("0");
+            modelBudget = Budget.ZERO;
         } else {
             if (!Budget.isValidBudget(budget)) {
                 throw new IllegalValueException(Budget.MESSAGE_CONSTRAINTS);
@@ -0,0 +1,150 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.DataCorruptionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads address book data in the format written by {@link JsonAddressBookWriter} one person or event at a time.
+ * Each record is converted into the model's format as soon as it is parsed, so only the resulting
+ * {@code AddressBook} is kept in memory. The checksum of the data is computed while reading.
+ */
+class JsonAddressBookReader {
+
+    public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_EVENT = "Events list contains duplicate event(s).";
+    public static final String MESSAGE_NOT_AN_OBJECT = "Address book data is not a JSON object.";
+    public static final String MESSAGE_EMPTY_ENTRY = "Address book data contains an empty entry.";
+
+    private final AddressBook addressBook = new AddressBook();
+    private final AddressBookChecksum computedChecksum;
+    private String storedChecksum;
+    private String checksum;
+
+    private JsonAddressBookReader() throws IOException {
+        computedChecksum = new AddressBookChecksum();
+    }
+
+    /**
+     * Reads the address book data from {@code in} and closes it.
+     *
+     * @throws IOException if the data could not be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static JsonAddressBookReader read(InputStream in) throws IOException, IllegalValueException {
+        requireNonNull(in);
+        JsonAddressBookReader reader = new JsonAddressBookReader();
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            reader.readAddressBook(parser);
+        }
+        return reader;
+    }
+
+    private void readAddressBook(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, MESSAGE_NOT_AN_OBJECT);
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            switch (fieldName) {
+            case "persons":
+                readPersons(parser, value);
+                break;
+            case "events":
+                readEvents(parser, value);
+                break;
+            case "checksum":
+                storedChecksum = value == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+        }
+        checksum = computedChecksum.getChecksum();
+    }
+
+    private void readPersons(JsonParser parser, JsonToken value) throws IOException, IllegalValueException {
+        if (value == JsonToken.VALUE_NULL) {
+            return;
+        }
+        requireArray(parser, value);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            JsonAdaptedPerson jsonAdaptedPerson = requireEntry(parser.readValueAs(JsonAdaptedPerson.class));
+            computedChecksum.addPerson(jsonAdaptedPerson);
+            Person person = jsonAdaptedPerson.toModelType();
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        }
+    }
+
+    private void readEvents(JsonParser parser, JsonToken value) throws IOException, IllegalValueException {
+        if (value == JsonToken.VALUE_NULL) {
+            return;
+        }
+        requireArray(parser, value);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            JsonAdaptedEvent jsonAdaptedEvent = requireEntry(parser.readValueAs(JsonAdaptedEvent.class));
+            computedChecksum.addEvent(jsonAdaptedEvent);
+            Event event = jsonAdaptedEvent.toModelType();
+            if (addressBook.hasEvent(event)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
+            }
+            addressBook.addEvent(event);
+        }
+    }
+
+    private static void requireArray(JsonParser parser, JsonToken value) throws IOException {
+        if (value != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected a list for " + parser.getCurrentName());
+        }
+    }
+
+    private static <T> T requireEntry(T entry) throws IllegalValueException {
+        if (entry == null) {
+            throw new IllegalValueException(MESSAGE_EMPTY_ENTRY);
+        }
+        return entry;
+    }
+
+    AddressBook getAddressBook() {
+        return addressBook;
+    }
+
+    /**
+     * Returns the checksum stored with the data, or null if there is none.
+     */
+    String getStoredChecksum() {
+        return storedChecksum;
+    }
+
+    /**
+     * Returns the checksum of the data that was read, or null if it could not be computed.
+     */
+    String getComputedChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Throws a {@code DataCorruptionException} if the stored checksum does not match the data that was read.
+     */
+    void validateIntegrityOrThrow() throws DataCorruptionException {
+        AddressBookChecksum.validate(storedChecksum, checksum);
+    }
+}
@@ -2,7 +2,10 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -12,7 +15,6 @@ import seedu.address.commons.exceptions.DataCorruptionException;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -48,35 +50,48 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
         logger.info("Reading AddressBook data from " + filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (jsonAddressBook.isEmpty()) {
+        return readData(filePath).map(JsonAddressBookReader::getAddressBook);
+    }
+
+    /**
+     * Reads the data at {@code filePath} one record at a time and checks its integrity.
+     * Returns {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataLoadingException if the file could not be read or parsed, or the data violates any model
+     *     constraints.
+     */
+    static Optional<JsonAddressBookReader> readData(Path filePath) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
             logger.info("AddressBook file not found at " + filePath + "; returning empty Optional.");
             return Optional.empty();
         }
 
-        try {
-            // Diagnostics: log checksum values if present
-            try {
-                String stored = jsonAddressBook.get().getStoredChecksum();
-                String computed = jsonAddressBook.get().getComputedChecksumForDiagnostics();
-                logger.info("Checksum diagnostics: stored=" + stored + ", computed=" + computed);
-            } catch (Throwable t) {
-                logger.warning("Checksum diagnostics failed: " + t.getMessage());
-            }
+        JsonAddressBookReader data;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            data = JsonAddressBookReader.read(in);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        // Diagnostics: log checksum values if present
+        logger.info("Checksum diagnostics: stored=" + data.getStoredChecksum()
+                + ", computed=" + data.getComputedChecksum());
+        if (data.getStoredChecksum() == null || data.getComputedChecksum() == null) {
+            logger.info("No checksum to compare for " + filePath + "; skipping integrity validation.");
+        } else {
             try {
-                jsonAddressBook.get().validateIntegrityOrThrow();
+                data.validateIntegrityOrThrow();
             } catch (DataCorruptionException dce) {
                 logger.warning("Data integrity mismatch in " + filePath + ": " + dce.getMessage());
             }
-
-            ReadOnlyAddressBook readOnly = jsonAddressBook.get().toModelType();
-            logger.info("Successfully loaded AddressBook from " + filePath);
-            return Optional.of(readOnly);
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataLoadingException(ive);
         }
+
+        logger.info("Successfully loaded AddressBook from " + filePath);
+        return Optional.of(data);
     }
 
     @Override
@@ -94,9 +109,19 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(filePath);
 
         logger.info("Saving AddressBook to " + filePath);
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        writeData(addressBook, filePath);
         logger.info("Saved AddressBook to " + filePath);
     }
 
+    /**
+     * Writes {@code addressBook} to {@code filePath} one record at a time, atomically replacing any existing file.
+     *
+     * @return the checksum that was written with the data.
+     */
+    static String writeData(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        String[] checksum = new String[1];
+        FileUtil.writeAtomically(filePath, out -> checksum[0] = JsonAddressBookWriter.write(addressBook, out));
+        return checksum[0];
+    }
+
 }
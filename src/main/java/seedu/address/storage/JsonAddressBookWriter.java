@@ -0,0 +1,63 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes address book data as a JSON object with {@code persons}, {@code events} and {@code checksum} fields,
+ * one person or event at a time.
+ * Each record is converted into its Jackson-friendly form only while it is being written, so memory use does not
+ * depend on the number of records. The checksum of the data is computed over the bytes as they are written.
+ */
+class JsonAddressBookWriter {
+
+    private JsonAddressBookWriter() {} // prevents instantiation
+
+    /**
+     * Writes {@code addressBook} as JSON to {@code out} and closes it.
+     *
+     * @return the checksum that was written with the data.
+     */
+    static String write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(out);
+
+        MessageDigest digest = AddressBookChecksum.newDigest();
+        DigestOutputStream digestOut = new DigestOutputStream(out, digest);
+        String checksum;
+        try (JsonGenerator generator = JsonUtil.createGenerator(digestOut)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("persons");
+            for (Person person : addressBook.getPersonList()) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("events");
+            for (Event event : addressBook.getEventList()) {
+                generator.writeObject(new JsonAdaptedEvent(event));
+            }
+            generator.writeEndArray();
+            generator.flush();
+
+            // The checksum covers an object holding only the persons and events, which would end here
+            digestOut.on(false);
+            digest.update(AddressBookChecksum.getObjectEnd());
+            checksum = AddressBookChecksum.toHex(digest.digest());
+
+            generator.writeStringField("checksum", checksum);
+            generator.writeEndObject();
+        }
+        return checksum;
+    }
+}
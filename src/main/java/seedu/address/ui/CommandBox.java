@@ -1,12 +1,12 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -41,14 +41,18 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            CommandResult commandResult = commandExecutor.execute(commandText);
-            if (!commandResult.isShowConfirmation()) {
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            if (!commandTextField.getText().equals(commandText)) {
+                // Leaves alone anything typed while the command was running
+                return;
+            }
+
+            if (error != null) {
+                setStyleToIndicateCommandFailure();
+            } else if (!commandResult.isShowConfirmation()) {
                 commandTextField.setText("");
             }
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        }
+        });
     }
 
     /**
@@ -77,11 +81,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command, and returns a future that is completed on the JavaFX application thread
+         * with the result, or with the error if the command fails.
          *
          * @see seedu.address.logic.Logic#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
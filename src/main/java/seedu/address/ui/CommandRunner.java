@@ -0,0 +1,177 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+
+/**
+ * Runs commands one at a time on a background thread, so that the window stays responsive while they run.
+ *
+ * While commands can be run, the model is only used from the background thread, so other changes to it, such as the
+ * window settings saved on exit, are run there too with {@link #runLater(Runnable)}. The lists shown in the UI are
+ * copies of the model's filtered lists, which are brought up to date on the JavaFX application thread in a single
+ * change after each command finishes. A failure to save the changes of a command is passed to a separate handler
+ * after the result of the command, as it does not change the result.
+ */
+class CommandRunner {
+    private static final Logger logger = LogsCenter.getLogger(CommandRunner.class);
+    private static final long STOP_TIMEOUT_SECONDS = 10;
+
+    private final Logic logic;
+    private final Consumer<String> saveFailureHandler;
+    private final Executor fxExecutor;
+    private final ExecutorService executor;
+    private final ObservableList<Person> shownPersons;
+    private final ObservableList<Event> shownEvents;
+    private boolean isRunning;
+
+    /**
+     * Creates a {@code CommandRunner} that shows the persons and events currently in {@code logic}'s filtered lists.
+     *
+     * @param saveFailureHandler Called on the JavaFX application thread with the message of each failed save.
+     */
+    CommandRunner(Logic logic, Consumer<String> saveFailureHandler) {
+        this(logic, saveFailureHandler, Platform::runLater);
+    }
+
+    /**
+     * Creates a {@code CommandRunner} that runs its updates of the shown lists with {@code fxExecutor} instead of on
+     * the JavaFX application thread.
+     */
+    CommandRunner(Logic logic, Consumer<String> saveFailureHandler, Executor fxExecutor) {
+        requireAllNonNull(logic, saveFailureHandler, fxExecutor);
+        this.logic = logic;
+        this.saveFailureHandler = saveFailureHandler;
+        this.fxExecutor = fxExecutor;
+        this.shownPersons = FXCollections.observableArrayList(logic.getFilteredPersonList());
+        this.shownEvents = FXCollections.observableArrayList(logic.getFilteredEventList());
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-runner");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /** Returns an unmodifiable view of the persons to show, which is only changed on the JavaFX application thread */
+    ObservableList<Person> getShownPersonList() {
+        return FXCollections.unmodifiableObservableList(shownPersons);
+    }
+
+    /** Returns an unmodifiable view of the events to show, which is only changed on the JavaFX application thread */
+    ObservableList<Event> getShownEventList() {
+        return FXCollections.unmodifiableObservableList(shownEvents);
+    }
+
+    /**
+     * Returns true if a command is still running.
+     */
+    boolean isRunning() {
+        return isRunning;
+    }
+
+    /**
+     * Runs {@code command} on the background thread. Must be called on the JavaFX application thread while no other
+     * command is running.
+     *
+     * @return a future completed on the JavaFX application thread with the command's result or error, after the
+     *     shown lists have been updated with the command's changes.
+     */
+    CompletableFuture<CommandResult> run(Callable<CommandResult> command) {
+        requireNonNull(command);
+        assert !isRunning : "Commands should be run one at a time";
+
+        isRunning = true;
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        executor.execute(() -> fxExecutor.execute(runCommand(command, result)));
+        return result;
+    }
+
+    /**
+     * Runs {@code task} on the background thread after the running command, if any. Must be called on the JavaFX
+     * application thread before {@link #stop()}.
+     */
+    void runLater(Runnable task) {
+        requireNonNull(task);
+        executor.execute(task);
+    }
+
+    /**
+     * Runs {@code command}, and returns the task that shows its outcome and completes
+     * {@code result} on the JavaFX application thread.
+     */
+    private Runnable runCommand(Callable<CommandResult> command, CompletableFuture<CommandResult> result) {
+        Runnable completeResult;
+        try {
+            CommandResult commandResult = command.call();
+            completeResult = () -> result.complete(commandResult);
+        } catch (Throwable e) {
+            // Errors such as failed assertions are passed on too, so that the runner is not left running forever
+            completeResult = () -> result.completeExceptionally(e);
+        }
+
+        Runnable finishedResult = completeResult;
+        Optional<String> saveFailure = logic.takeSaveFailure();
+        List<Person> persons = List.copyOf(logic.getFilteredPersonList());
+        List<Event> events = List.copyOf(logic.getFilteredEventList());
+        return () -> {
+            isRunning = false;
+            show(shownPersons, persons);
+            show(shownEvents, events);
+            finishedResult.run();
+            saveFailure.ifPresent(saveFailureHandler);
+        };
+    }
+
+    /**
+     * Waits for the running command, if any, to finish, and stops the background thread.
+     *
+     * @return false if a command was still running when it stopped waiting.
+     */
+    boolean stop() {
+        executor.shutdown();
+        try {
+            if (executor.awaitTermination(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.warning("Stopped without waiting for the running command to finish");
+        return false;
+    }
+
+    /**
+     * Replaces the contents of {@code shown} with {@code items}, unless it already holds the same items.
+     */
+    private static <T> void show(ObservableList<T> shown, List<T> items) {
+        if (shown.size() == items.size()) {
+            boolean isSame = true;
+            for (int i = 0; i < items.size() && isSame; i++) {
+                isSame = shown.get(i) == items.get(i);
+            }
+            if (isSame) {
+                return;
+            }
+        }
+        shown.setAll(items);
+    }
+}
@@ -13,7 +13,8 @@ public class EventCard extends UiPart<Region> {
 
     private static final String FXML = "EventListCard.fxml";
 
-    public final Event event;
+    private Event event;
+    private int displayedIndex;
 
     @FXML
     private HBox cardPane;
@@ -29,12 +30,25 @@ public class EventCard extends UiPart<Region> {
     private Label budget;
 
     /**
-     * Creates a {@code EventCard} with the given {@code Event} and index to display.
+     * Creates an empty {@code EventCard} to be filled in with {@link #setEvent(Event, int)}.
      */
-    public EventCard(Event event, int displayedIndex) {
+    public EventCard() {
         super(FXML);
+    }
+
+    /**
+     * Shows {@code event} at {@code displayedIndex} on this card, reusing its existing nodes.
+     */
+    public void setEvent(Event event, int displayedIndex) {
+        if (displayedIndex != this.displayedIndex) {
+            id.setText(displayedIndex + ". ");
+            this.displayedIndex = displayedIndex;
+        }
+        if (event == this.event) {
+            return;
+        }
         this.event = event;
-        id.setText(displayedIndex + ". ");
+
         name.setText(event.getName().fullName);
         date.setText(event.getDate().value);
         time.setText(event.getTime().value);
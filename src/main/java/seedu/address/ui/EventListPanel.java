@@ -33,6 +33,9 @@ public class EventListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Event} using a {@code EventCard}.
      */
     class EventListViewCell extends ListCell<Event> {
+        // Loaded once per cell and filled in again whenever the cell is reused for another event
+        private EventCard card;
+
         @Override
         protected void updateItem(Event event, boolean empty) {
             super.updateItem(event, empty);
@@ -41,7 +44,11 @@ public class EventListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new EventCard(event, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new EventCard();
+                }
+                card.setEvent(event, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -55,7 +55,11 @@ public class HelpWindow extends UiPart<Stage> {
             + "16. view INDEX:\n"
             + "    Views all people assigned to a party at the given index.\n\n"
             + "17. undo:\n"
-            + "    Undoes the previous command that modified the address book.\n\n"
+            + "    Undoes the previous command that modified the address book. Can be repeated.\n\n"
+            + "18. redo:\n"
+            + "    Redoes the most recent command that was undone.\n\n"
+            + "19. bulkassign e/PARTY_INDEX c/CONTACT_INDEX[,CONTACT_INDEX ...] [e/PARTY_INDEX c/...]...:\n"
+            + "    Assigns contacts to several parties at once. E.g. bulkassign e/1 c/1,2 e/2 c/3\n\n"
             + "For more detailed help, refer to the AbsolutSin-ema User Guide.\n"
             + "https://ay2526s1-cs2103t-t12-4.github.io/tp/UserGuide.html";
 
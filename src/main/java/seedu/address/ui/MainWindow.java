@@ -1,7 +1,12 @@
 package seedu.address.ui;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
+import javafx.animation.PauseTransition;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -10,6 +15,7 @@ import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
@@ -24,8 +30,14 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class MainWindow extends UiPart<Stage> {
 
+    public static final String MESSAGE_COMMAND_RUNNING = "Running: %1$s ...";
+    public static final String MESSAGE_COMMAND_STILL_RUNNING = "Please wait for the previous command to finish.";
+
     private static final String FXML = "MainWindow.fxml";
 
+    /** How long a command runs before the result display shows that it is still running. */
+    private static final Duration PROGRESS_DELAY = Duration.millis(300);
+
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
@@ -36,6 +48,7 @@ public class MainWindow extends UiPart<Stage> {
     private EventListPanel eventListPanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
+    private CommandRunner commandRunner;
     private Command pendingConfirmationCommand = null;
     private boolean isAwaitingConfirmation = false;
 
@@ -122,10 +135,12 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        commandRunner = new CommandRunner(logic, message -> resultDisplay.appendWarningToUser(message));
+
+        personListPanel = new PersonListPanel(commandRunner.getShownPersonList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
-        eventListPanel = new EventListPanel(logic.getFilteredEventList());
+        eventListPanel = new EventListPanel(commandRunner.getShownEventList());
         eventListPanelPlaceholder.getChildren().add(eventListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
@@ -167,6 +182,15 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.show();
     }
 
+    /**
+     * Waits for any command that is still running to finish.
+     *
+     * @return false if a command was still running when it stopped waiting.
+     */
+    boolean stop() {
+        return commandRunner == null || commandRunner.stop();
+    }
+
     /**
      * Closes the application.
      */
@@ -174,7 +198,7 @@ public class MainWindow extends UiPart<Stage> {
     private void handleExit() {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
-        logic.setGuiSettings(guiSettings);
+        commandRunner.runLater(() -> logic.setGuiSettings(guiSettings));
         helpWindow.hide();
         primaryStage.hide();
     }
@@ -184,56 +208,101 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Starts executing the command in the background.
      *
+     * @return a future completed on the JavaFX application thread with the result of the command, or with the
+     *     {@code CommandException} or {@code ParseException} that it failed with.
      * @see seedu.address.logic.Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            if (isAwaitingConfirmation) {
-                if (commandText.equalsIgnoreCase("y")) {
-                    CommandResult confirmedResult = logic.execute(pendingConfirmationCommand);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        if (commandRunner.isRunning()) {
+            resultDisplay.setFeedbackToUser(MESSAGE_COMMAND_STILL_RUNNING);
+            return CompletableFuture.failedFuture(new CommandException(MESSAGE_COMMAND_STILL_RUNNING));
+        }
+
+        if (isAwaitingConfirmation) {
+            if (commandText.equalsIgnoreCase("y")) {
+                Command confirmedCommand = pendingConfirmationCommand;
+                isAwaitingConfirmation = false;
+                pendingConfirmationCommand = null;
+                return run(commandText, () -> logic.execute(confirmedCommand), confirmedResult -> {
                     resultDisplay.setFeedbackToUser(confirmedResult.getFeedbackToUser());
-                    isAwaitingConfirmation = false;
-                    pendingConfirmationCommand = null;
                     return confirmedResult;
-                } else if (commandText.equalsIgnoreCase("n")) {
-                    resultDisplay.setFeedbackToUser("Command cancelled.");
-                    isAwaitingConfirmation = false;
-                    pendingConfirmationCommand = null;
-                    return new CommandResult("Command cancelled.");
-                } else {
-                    resultDisplay.setFeedbackToUser("Invalid input. Please type 'y' for yes or 'n' for no.");
-                    return new CommandResult("Invalid input. Please type 'y' for yes or 'n' for no.");
-                }
+                });
+            } else if (commandText.equalsIgnoreCase("n")) {
+                resultDisplay.setFeedbackToUser("Command cancelled.");
+                isAwaitingConfirmation = false;
+                pendingConfirmationCommand = null;
+                return CompletableFuture.completedFuture(new CommandResult("Command cancelled."));
+            } else {
+                resultDisplay.setFeedbackToUser("Invalid input. Please type 'y' for yes or 'n' for no.");
+                return CompletableFuture.completedFuture(
+                        new CommandResult("Invalid input. Please type 'y' for yes or 'n' for no."));
             }
+        }
 
-            // If not awaiting confirmation, execute the new command
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowConfirmation()) {
-                isAwaitingConfirmation = true;
-                pendingConfirmationCommand = commandResult.getCommandToExecute();
-                resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser()
-                        + " (Type 'y' to confirm, 'n' to cancel)");
-                return new CommandResult(commandResult.getFeedbackToUser());
-            }
+        // If not awaiting confirmation, execute the new command
+        return run(commandText, () -> logic.execute(commandText), this::handleCommandResult);
+    }
 
-            if (commandResult.isShowHelp()) {
-                handleHelp();
-            }
+    /**
+     * Runs {@code command} in the background, showing that it is still running if it takes a while, and passes its
+     * result to {@code resultHandler}.
+     */
+    private CompletableFuture<CommandResult> run(String commandText, Callable<CommandResult> command,
+            Function<CommandResult, CommandResult> resultHandler) {
+        PauseTransition progressDelay = new PauseTransition(PROGRESS_DELAY);
+        progressDelay.setOnFinished(unused -> resultDisplay.setFeedbackToUser(
+                String.format(MESSAGE_COMMAND_RUNNING, commandText)));
+        progressDelay.play();
+
+        return commandRunner.run(command)
+                .whenComplete((unused1, unused2) -> progressDelay.stop())
+                .thenApply(resultHandler)
+                .whenComplete((unused, error) -> {
+                    if (error != null) {
+                        handleCommandFailure(commandText, error);
+                    }
+                });
+    }
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+    /**
+     * Shows {@code commandResult} and acts on it.
+     */
+    private CommandResult handleCommandResult(CommandResult commandResult) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+
+        if (commandResult.isShowConfirmation()) {
+            isAwaitingConfirmation = true;
+            pendingConfirmationCommand = commandResult.getCommandToExecute();
+            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser()
+                    + " (Type 'y' to confirm, 'n' to cancel)");
+            return new CommandResult(commandResult.getFeedbackToUser());
+        }
+
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
+
+        if (commandResult.isExit()) {
+            handleExit();
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
+        return commandResult;
+    }
+
+    /**
+     * Shows the error that the command failed with.
+     */
+    private void handleCommandFailure(String commandText, Throwable error) {
+        Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+        if (cause instanceof CommandException || cause instanceof ParseException) {
             logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+            resultDisplay.setFeedbackToUser(cause.getMessage());
+            return;
         }
+        logger.severe("Unexpected error while executing command: " + commandText + " " + cause);
+        resultDisplay.setFeedbackToUser(cause.toString());
     }
 }
@@ -1,8 +1,10 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
@@ -24,7 +26,8 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
+    private int displayedIndex;
 
     @FXML
     private HBox cardPane;
@@ -44,19 +47,51 @@ public class PersonCard extends UiPart<Region> {
     private FlowPane tags;
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates an empty {@code PersonCard} to be filled in with {@link #setPerson(Person, int)}.
      */
-    public PersonCard(Person person, int displayedIndex) {
+    public PersonCard() {
         super(FXML);
+    }
+
+    /**
+     * Shows {@code person} at {@code displayedIndex} on this card, reusing its existing nodes.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        if (displayedIndex != this.displayedIndex) {
+            id.setText(displayedIndex + ". ");
+            this.displayedIndex = displayedIndex;
+        }
+        if (person == this.person) {
+            return;
+        }
         this.person = person;
-        id.setText(displayedIndex + ". ");
+
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
         website.setText(person.getWebsite().value);
         email.setText(person.getEmail().value);
         budget.setText("Budget: $" + person.getBudget().value);
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        setTags(person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Shows {@code tagNames} in the tag pane, relabelling the tag labels already in it and adding or removing
+     * labels only when the number of tags differs.
+     */
+    private void setTags(List<String> tagNames) {
+        List<Node> tagLabels = tags.getChildren();
+        for (int i = 0; i < tagNames.size(); i++) {
+            if (i < tagLabels.size()) {
+                ((Label) tagLabels.get(i)).setText(tagNames.get(i));
+            } else {
+                tagLabels.add(new Label(tagNames.get(i)));
+            }
+        }
+        if (tagLabels.size() > tagNames.size()) {
+            tagLabels.remove(tagNames.size(), tagLabels.size());
+        }
     }
 }
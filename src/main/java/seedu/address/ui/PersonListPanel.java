@@ -33,6 +33,9 @@ public class PersonListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
      */
     class PersonListViewCell extends ListCell<Person> {
+        // Loaded once per cell and filled in again whenever the cell is reused for another person
+        private PersonCard card;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -41,7 +44,11 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new PersonCard();
+                }
+                card.setPerson(person, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -25,4 +25,12 @@ public class ResultDisplay extends UiPart<Region> {
         resultDisplay.setText(feedbackToUser);
     }
 
+    /**
+     * Shows {@code warning} below the feedback that is currently shown.
+     */
+    public void appendWarningToUser(String warning) {
+        requireNonNull(warning);
+        resultDisplay.appendText("\n\n" + warning);
+    }
+
 }
@@ -10,4 +10,11 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /**
+     * Stops the UI, waiting for any command that is still running to finish.
+     *
+     * @return false if a command was still running when it stopped waiting.
+     */
+    boolean stop();
+
 }
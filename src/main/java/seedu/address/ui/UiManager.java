@@ -50,6 +50,11 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public boolean stop() {
+        return mainWindow == null || mainWindow.stop();
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -0,0 +1,105 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class BatchedObservableListTest {
+
+    private final BatchedObservableList<String> list = new BatchedObservableList<>();
+    private final List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+    private final List<String> applied = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        list.setAll(List.of("a", "b", "c"));
+        applied.addAll(list);
+        list.addListener((ListChangeListener<String>) change -> {
+            changes.add(change);
+            applyTo(applied, change);
+        });
+    }
+
+    @Test
+    public void modifications_withoutBatch_oneChangeEach() {
+        list.set(0, "x");
+        list.remove("b");
+        list.add("d");
+
+        assertEquals(3, changes.size());
+        assertEquals(List.of("x", "c", "d"), list);
+        assertEquals(list, applied);
+    }
+
+    @Test
+    public void modifications_inBatch_singleChange() {
+        list.beginBatch();
+        assertTrue(list.isInBatch());
+        list.set(0, "x");
+        list.remove("b");
+        list.add("d");
+        list.add(0, "e");
+        assertEquals(0, changes.size());
+        list.endBatch();
+
+        assertFalse(list.isInBatch());
+        assertEquals(1, changes.size());
+        assertEquals(List.of("e", "x", "c", "d"), list);
+        assertEquals(list, applied);
+    }
+
+    @Test
+    public void modifications_nestedBatches_singleChangeAtOutermostEnd() {
+        list.beginBatch();
+        list.beginBatch();
+        list.set(1, "y");
+        list.endBatch();
+        assertEquals(0, changes.size());
+        list.setAll(List.of("p", "q"));
+        list.endBatch();
+
+        assertEquals(1, changes.size());
+        assertEquals(List.of("p", "q"), list);
+        assertEquals(list, applied);
+    }
+
+    @Test
+    public void setAll_replacesContents() {
+        list.setAll(List.of("p"));
+        list.clear();
+
+        assertEquals(2, changes.size());
+        assertTrue(list.isEmpty());
+        assertEquals(list, applied);
+    }
+
+    @Test
+    public void endBatch_noBatch_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, list::endBatch);
+    }
+
+    /**
+     * Applies {@code change} to {@code target}, a copy of the list before the change.
+     */
+    private static void applyTo(List<String> target, ListChangeListener.Change<? extends String> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            for (int i = 0; i < change.getRemovedSize(); i++) {
+                target.remove(change.getFrom());
+            }
+            target.addAll(change.getFrom(), change.getAddedSubList());
+        }
+        change.reset();
+    }
+}
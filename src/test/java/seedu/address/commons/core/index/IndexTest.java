@@ -56,6 +56,9 @@ public class IndexTest {
 
         // different index -> returns false
         assertFalse(fifthPersonIndex.equals(Index.fromOneBased(1)));
+
+        // equal indexes have the same hash code
+        assertEquals(fifthPersonIndex.hashCode(), Index.fromZeroBased(4).hashCode());
     }
 
     @Test
@@ -1,13 +1,23 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path temporaryFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,26 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_newFile_contentsWritten() throws Exception {
+        Path file = temporaryFolder.resolve("folder").resolve("file.txt");
+        FileUtil.writeAtomically(file, out -> out.write("contents".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("contents", Files.readString(file));
+        assertEquals(1, Files.list(file.getParent()).count());
+    }
+
+    @Test
+    public void writeAtomically_writerFails_fileUnchanged() throws Exception {
+        Path file = temporaryFolder.resolve("file.txt");
+        Files.writeString(file, "original");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("failed");
+        }));
+        assertEquals("original", Files.readString(file));
+        assertEquals(1, Files.list(temporaryFolder).count());
+    }
+
 }
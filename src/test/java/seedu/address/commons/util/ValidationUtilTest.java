@@ -0,0 +1,90 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.event.EventTime;
+import seedu.address.model.person.Budget;
+import seedu.address.model.person.Phone;
+
+public class ValidationUtilTest {
+
+    private static final List<String> SAMPLES = List.of("", " ", "0", "9", "12", "123", "1234567", "12345678",
+            "123456789012345", "1234567890123456", "1.", ".5", "1.5", "1.50", "1.505", "12345678.5", "1,5", "1 5",
+            "a1", "1a", "١٢٣", "0:00", "9:59", "09:59", "23:59", "24:00", "12:60", "123:00", "12:5",
+            ":00", "12-00", "-1");
+
+    @Test
+    public void matches() {
+        Pattern pattern = ValidationUtil.compile("a+");
+        assertTrue(ValidationUtil.matches(pattern, "aaa"));
+        assertFalse(ValidationUtil.matches(pattern, "aab"));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.matches(pattern, null));
+    }
+
+    @Test
+    public void isDigits_sameAsRegex() {
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches(Phone.VALIDATION_REGEX), ValidationUtil.isDigits(sample, 3, 15), sample);
+        }
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isDigits(null, 3, 15));
+    }
+
+    @Test
+    public void isDecimal_sameAsRegex() {
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches(Budget.VALIDATION_REGEX), ValidationUtil.isDecimal(sample, 7, 2), sample);
+        }
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isDecimal(null, 7, 2));
+    }
+
+    @Test
+    public void isTime_sameAsRegex() {
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches(EventTime.VALIDATION_REGEX), ValidationUtil.isTime(sample), sample);
+        }
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isTime(null));
+    }
+
+    @Test
+    public void isDate() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isDate(null));
+
+        // invalid format
+        assertFalse(ValidationUtil.isDate(""));
+        assertFalse(ValidationUtil.isDate("1-01-2030"));
+        assertFalse(ValidationUtil.isDate("01/01/2030"));
+        assertFalse(ValidationUtil.isDate("01-01-30"));
+        assertFalse(ValidationUtil.isDate("0a-01-2030"));
+        assertFalse(ValidationUtil.isDate("01-01-2030 "));
+
+        // not in the calendar
+        assertFalse(ValidationUtil.isDate("00-01-2030"));
+        assertFalse(ValidationUtil.isDate("32-01-2030"));
+        assertFalse(ValidationUtil.isDate("01-00-2030"));
+        assertFalse(ValidationUtil.isDate("01-13-2030"));
+        assertFalse(ValidationUtil.isDate("31-04-2030"));
+        assertFalse(ValidationUtil.isDate("29-02-2030"));
+        assertFalse(ValidationUtil.isDate("29-02-2100"));
+
+        // valid dates
+        assertTrue(ValidationUtil.isDate("01-01-2030"));
+        assertTrue(ValidationUtil.isDate("31-12-2030"));
+        assertTrue(ValidationUtil.isDate("29-02-2028"));
+        assertTrue(ValidationUtil.isDate("29-02-2000"));
+    }
+
+    @Test
+    public void parseDigits() {
+        assertEquals(0, ValidationUtil.parseDigits("", 0, 0));
+        assertEquals(2030, ValidationUtil.parseDigits("01-01-2030", 6, 10));
+        assertEquals(7, ValidationUtil.parseDigits("007", 0, 3));
+    }
+}
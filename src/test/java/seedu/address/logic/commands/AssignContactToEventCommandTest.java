@@ -84,4 +84,21 @@ public class AssignContactToEventCommandTest {
         assertThrows(CommandException.class,
                 "Alice Pauline has already been assigned to this party.", () -> assignCommand.execute(model));
     }
+
+    @Test
+    public void execute_personInFilteredOutEventOnSameDate_throwsCommandException() {
+        Event sameDayEvent = new EventBuilder().withName("Brunch").withDate("01-01-2026")
+                .withTime("09:00").withParticipants(TypicalPersons.ALICE.getId()).build();
+        model.addEvent(sameDayEvent);
+        // only show the target event, so the conflicting event is not in the filtered list
+        model.updateFilteredEventList(event -> event.equals(eventOne));
+
+        Set<Index> contactIndices = new LinkedHashSet<>(List.of(INDEX_FIRST_PERSON));
+        AssignContactToEventCommand assignCommand =
+                new AssignContactToEventCommand(Index.fromOneBased(1), contactIndices);
+
+        assertThrows(CommandException.class,
+                "Alice Pauline is already assigned to another party on the same date.", () ->
+                assignCommand.execute(model));
+    }
 }
@@ -0,0 +1,136 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Budget;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+/**
+ * Tests for {@link BulkAssignCommand}.
+ */
+public class BulkAssignCommandTest {
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        model.addEvent(new EventBuilder().withName("John's Party").withDate("01-01-2026")
+                .withTime("12:00").withBudget("1000").build());
+        model.addEvent(new EventBuilder().withName("Jane's Party").withDate("02-02-2026")
+                .withTime("18:00").withBudget("1000").build());
+        model.addEvent(new EventBuilder().withName("Jim's Party").withDate("01-01-2026")
+                .withTime("20:00").withBudget("1000").build());
+        model.addPerson(TypicalPersons.ALICE);
+        model.addPerson(TypicalPersons.BENSON);
+        model.addPerson(TypicalPersons.CARL);
+    }
+
+    @Test
+    public void execute_validAssignments_allAssigned() throws Exception {
+        List<Event> events = List.copyOf(model.getFilteredEventList());
+        BulkAssignCommand command = new BulkAssignCommand(assignments(
+                Index.fromOneBased(1), Set.of(INDEX_FIRST_PERSON),
+                Index.fromOneBased(2), new LinkedHashSet<>(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON))));
+
+        command.execute(model);
+
+        Event first = model.getFilteredEventList().get(0);
+        Event second = model.getFilteredEventList().get(1);
+        assertEquals(Set.of(TypicalPersons.ALICE.getId()), first.getParticipants());
+        assertEquals(Set.of(TypicalPersons.ALICE.getId(), TypicalPersons.BENSON.getId()), second.getParticipants());
+        assertEquals(Budget.ofCents(events.get(0).getRemainingBudget().getCents()
+                - TypicalPersons.ALICE.getBudget().getCents()), first.getRemainingBudget());
+
+        // all assignments are undone together
+        model.undo();
+        assertEquals(events, model.getFilteredEventList());
+    }
+
+    @Test
+    public void execute_conflictOnSameDate_nothingAssigned() {
+        List<Event> events = List.copyOf(model.getFilteredEventList());
+        BulkAssignCommand command = new BulkAssignCommand(assignments(
+                Index.fromOneBased(1), Set.of(INDEX_THIRD_PERSON),
+                Index.fromOneBased(3), Set.of(INDEX_THIRD_PERSON)));
+
+        assertThrows(CommandException.class, () -> command.execute(model));
+        assertEquals(events, model.getFilteredEventList());
+        assertFalse(model.canUndo());
+    }
+
+    @Test
+    public void execute_budgetExceeded_throwsCommandException() {
+        Event smallParty = new EventBuilder().withName("Small Party").withDate("03-03-2026")
+                .withTime("12:00").withBudget("0").withRemainingBudget("0").build();
+        model.addEvent(smallParty);
+        Index smallPartyIndex = Index.fromZeroBased(model.getFilteredEventList().indexOf(smallParty));
+        BulkAssignCommand command = new BulkAssignCommand(assignments(
+                Index.fromOneBased(1), Set.of(INDEX_FIRST_PERSON),
+                smallPartyIndex, Set.of(INDEX_SECOND_PERSON)));
+
+        assertThrows(CommandException.class, () -> command.execute(model));
+        assertTrue(model.getFilteredEventList().get(0).getParticipants().isEmpty());
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        BulkAssignCommand invalidEvent = new BulkAssignCommand(assignments(
+                Index.fromOneBased(1), Set.of(INDEX_FIRST_PERSON),
+                Index.fromOneBased(4), Set.of(INDEX_FIRST_PERSON)));
+        assertThrows(CommandException.class, Messages.MESSAGE_INVALID_EVENT_DISPLAYED_INDEX, () ->
+                invalidEvent.execute(model));
+
+        BulkAssignCommand invalidPerson = new BulkAssignCommand(assignments(
+                Index.fromOneBased(1), Set.of(Index.fromOneBased(4)),
+                Index.fromOneBased(2), Set.of(INDEX_FIRST_PERSON)));
+        assertThrows(CommandException.class, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX + " "
+                + Messages.MESSAGE_TRY_PERSON_LIST_MODE, () -> invalidPerson.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        BulkAssignCommand command = new BulkAssignCommand(assignments(
+                Index.fromOneBased(1), Set.of(INDEX_FIRST_PERSON),
+                Index.fromOneBased(2), Set.of(INDEX_SECOND_PERSON)));
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new BulkAssignCommand(assignments(
+                Index.fromOneBased(1), Set.of(INDEX_FIRST_PERSON),
+                Index.fromOneBased(2), Set.of(INDEX_SECOND_PERSON)))));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new BulkAssignCommand(assignments(
+                Index.fromOneBased(1), Set.of(INDEX_SECOND_PERSON),
+                Index.fromOneBased(2), Set.of(INDEX_SECOND_PERSON)))));
+    }
+
+    private static Map<Index, Set<Index>> assignments(Index firstEvent, Set<Index> firstPersons,
+            Index secondEvent, Set<Index> secondPersons) {
+        Map<Index, Set<Index>> assignments = new LinkedHashMap<>();
+        assignments.put(firstEvent, firstPersons);
+        assignments.put(secondEvent, secondPersons);
+        return assignments;
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for RedoCommand.
+ */
+public class RedoCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_validRedo_success() {
+        Person person = new PersonBuilder().withName("John Doe").build();
+        model.saveStateForUndo("add person");
+        model.addPerson(person);
+        model.undo();
+
+        expectedModel.addPerson(person);
+        String expectedMessage = String.format(RedoCommand.MESSAGE_SUCCESS, "add person");
+
+        assertCommandSuccess(new RedoCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noCommandToRedo_throwsCommandException() {
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NO_COMMAND_TO_REDO);
+    }
+
+    @Test
+    public void execute_newCommandAfterUndo_throwsCommandException() {
+        model.saveStateForUndo("add person");
+        model.addPerson(new PersonBuilder().withName("John Doe").build());
+        model.undo();
+
+        model.saveStateForUndo("delete person");
+        model.deletePerson(model.getFilteredPersonList().get(0));
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NO_COMMAND_TO_REDO);
+    }
+
+    @Test
+    public void equals() {
+        RedoCommand redoCommand = new RedoCommand();
+
+        // same object -> returns true
+        assertTrue(redoCommand.equals(redoCommand));
+
+        // same type -> returns true
+        assertTrue(redoCommand.equals(new RedoCommand()));
+
+        // different types -> returns false
+        assertFalse(redoCommand.equals(new UndoCommand()));
+
+        // null -> returns false
+        assertFalse(redoCommand.equals(null));
+    }
+}
@@ -34,21 +34,17 @@ public class UnassignContactFromEventCommandTest {
     public void setUp() {
         model = new ModelManager();
 
-        // create two events
-        eventOne = new EventBuilder().withName("John's Party").withDate("01-01-2026")
-                .withTime("12:00").withBudget("1000").build();
-        Event eventTwo = new EventBuilder().withName("Jane's Party").withDate("02-02-2026")
-                .withTime("18:00").withBudget("500").build();
-
         // add two persons to the model
         Person person1 = TypicalPersons.ALICE;
         Person person2 = TypicalPersons.BENSON;
         model.addPerson(person1);
         model.addPerson(person2);
 
-        // assign both persons to eventOne initially
-        eventOne.getParticipants().add(person1.getId());
-        eventOne.getParticipants().add(person2.getId());
+        // create two events, with both persons assigned to eventOne initially
+        eventOne = new EventBuilder().withName("John's Party").withDate("01-01-2026")
+                .withTime("12:00").withBudget("1000").withParticipants(person1.getId(), person2.getId()).build();
+        Event eventTwo = new EventBuilder().withName("Jane's Party").withDate("02-02-2026")
+                .withTime("18:00").withBudget("500").build();
 
         model.addEvent(eventOne);
         model.addEvent(eventTwo);
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class ArgumentTokenizerTest {
@@ -136,6 +138,14 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void findPrefixOrder_multipleArgumentsWithRepeats() {
+        String argsString = "SomePreambleString -t dashT-Value ^Q p/ pSlash value -t joined^Q";
+        assertEquals(List.of(dashT, hatQ, pSlash, dashT),
+                ArgumentTokenizer.findPrefixOrder(argsString, pSlash, dashT, hatQ));
+        assertEquals(List.of(), ArgumentTokenizer.findPrefixOrder("  ", pSlash));
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,58 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.BulkAssignCommand;
+
+public class BulkAssignCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, BulkAssignCommand.MESSAGE_USAGE);
+
+    private final BulkAssignCommandParser parser = new BulkAssignCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsBulkAssignCommand() {
+        Map<Index, Set<Index>> assignments = new LinkedHashMap<>();
+        assignments.put(Index.fromOneBased(1), Set.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON));
+        assignments.put(Index.fromOneBased(3), Set.of(INDEX_THIRD_PERSON));
+
+        assertParseSuccess(parser, " e/1 c/1,2 e/3 c/3", new BulkAssignCommand(assignments));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // no pairs
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+
+        // preamble
+        assertParseFailure(parser, " 1 e/1 c/1", MESSAGE_INVALID_FORMAT);
+
+        // unpaired party
+        assertParseFailure(parser, " e/1 c/1 e/2", MESSAGE_INVALID_FORMAT);
+
+        // contacts not right after their party
+        assertParseFailure(parser, " e/1 e/2 c/3 c/4,5", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " c/3 e/1 c/4 e/2", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " e/1 c/3 c/4 e/2", MESSAGE_INVALID_FORMAT);
+
+        // invalid party index
+        assertParseFailure(parser, " e/0 c/1", MESSAGE_INVALID_FORMAT);
+
+        // party listed twice
+        assertParseFailure(parser, " e/1 c/1 e/1 c/2",
+                String.format(BulkAssignCommandParser.MESSAGE_DUPLICATE_PARTY, 1));
+    }
+}
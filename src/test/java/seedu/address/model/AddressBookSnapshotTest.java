@@ -1,7 +1,9 @@
 package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
@@ -87,4 +89,31 @@ public class AddressBookSnapshotTest {
         assertTrue(restoredAddressBook.hasPerson(ALICE));
         assertTrue(!restoredAddressBook.hasPerson(BOB));
     }
+
+    @Test
+    public void createSnapshot_unchangedAddressBook_sharesData() {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookSnapshot snapshot = addressBook.createSnapshot("first");
+
+        AddressBookSnapshot unchangedSnapshot = addressBook.createSnapshot("second");
+        assertSame(snapshot.getPersons(), unchangedSnapshot.getPersons());
+        assertSame(snapshot.getEvents(), unchangedSnapshot.getEvents());
+
+        addressBook.addPerson(BOB);
+        assertNotSame(snapshot.getPersons(), addressBook.createSnapshot("third").getPersons());
+    }
+
+    @Test
+    public void restoreSnapshot_modifiedAddressBook_restoresData() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot snapshot = addressBook.createSnapshot("add bob");
+        addressBook.addPerson(BOB);
+
+        addressBook.restoreSnapshot(snapshot);
+
+        assertEquals(List.of(ALICE), addressBook.getPersonList());
+        assertFalse(addressBook.hasPerson(BOB));
+        assertSame(snapshot.getPersons(), addressBook.createSnapshot("after restore").getPersons());
+    }
 }
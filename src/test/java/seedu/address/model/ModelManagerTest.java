@@ -7,16 +7,26 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.event.Event;
 import seedu.address.model.person.NameAndTagContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,11 +98,163 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void getPersonById_personInAddressBook_returnsPerson() {
+        modelManager.addPerson(ALICE);
+        assertEquals(Optional.of(ALICE), modelManager.getPersonById(ALICE.getId()));
+    }
+
+    @Test
+    public void getPersonById_personNotInAddressBook_returnsEmpty() {
+        assertEquals(Optional.empty(), modelManager.getPersonById(ALICE.getId()));
+    }
+
+    @Test
+    public void getEventsOfPerson_nullPersonId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.getEventsOfPerson(null));
+    }
+
+    @Test
+    public void getEventsOfPerson_tracksEventChanges() {
+        Event party = new EventBuilder().withName("Party").withParticipants(ALICE.getId()).build();
+        Event dinner = new EventBuilder().withName("Dinner").withParticipants(ALICE.getId(), BENSON.getId()).build();
+        modelManager.addEvent(party);
+        modelManager.addEvent(dinner);
+        assertEquals(List.of(party, dinner), modelManager.getEventsOfPerson(ALICE.getId()));
+        assertEquals(List.of(dinner), modelManager.getEventsOfPerson(BENSON.getId()));
+
+        // participant removed by an edit
+        Event editedDinner = new EventBuilder(dinner).withParticipants(BENSON.getId()).build();
+        modelManager.setEvent(dinner, editedDinner);
+        assertEquals(List.of(party), modelManager.getEventsOfPerson(ALICE.getId()));
+        assertEquals(List.of(editedDinner), modelManager.getEventsOfPerson(BENSON.getId()));
+
+        modelManager.deleteEvent(party);
+        assertTrue(modelManager.getEventsOfPerson(ALICE.getId()).isEmpty());
+    }
+
+    @Test
+    public void getEventsOfPerson_eventsFilteredOut_stillReturnsEvents() {
+        Event party = new EventBuilder().withParticipants(ALICE.getId()).build();
+        modelManager.addEvent(party);
+        modelManager.updateFilteredEventList(unused -> false);
+        assertEquals(List.of(party), modelManager.getEventsOfPerson(ALICE.getId()));
+    }
+
+    @Test
+    public void getEventsOn_tracksEventChanges() {
+        Event party = new EventBuilder().withName("Party").withDate("01-01-2099").build();
+        Event dinner = new EventBuilder().withName("Dinner").withDate("01-01-2099").build();
+        modelManager.addEvent(party);
+        modelManager.addEvent(dinner);
+        assertEquals(List.of(party, dinner), modelManager.getEventsOn(LocalDate.of(2099, 1, 1)));
+
+        // event moved to another date
+        Event movedDinner = new EventBuilder(dinner).withDate("02-01-2099").build();
+        modelManager.setEvent(dinner, movedDinner);
+        assertEquals(List.of(party), modelManager.getEventsOn(LocalDate.of(2099, 1, 1)));
+        assertEquals(List.of(movedDinner), modelManager.getEventsOn(LocalDate.of(2099, 1, 2)));
+
+        modelManager.deleteEvent(party);
+        assertTrue(modelManager.getEventsOn(LocalDate.of(2099, 1, 1)).isEmpty());
+    }
+
+    @Test
+    public void getEventsBetween_returnsEventsInRangeOrderedByDate() {
+        Event lunch = new EventBuilder().withName("Lunch").withDate("10-01-2099").build();
+        Event party = new EventBuilder().withName("Party").withDate("01-01-2099").build();
+        Event dinner = new EventBuilder().withName("Dinner").withDate("07-01-2099").build();
+        Event brunch = new EventBuilder().withName("Brunch").withDate("08-01-2099").build();
+        modelManager.addEvent(lunch);
+        modelManager.addEvent(party);
+        modelManager.addEvent(dinner);
+        modelManager.addEvent(brunch);
+
+        // both ends inclusive
+        assertEquals(List.of(party, dinner),
+                modelManager.getEventsBetween(LocalDate.of(2099, 1, 1), LocalDate.of(2099, 1, 7)));
+        assertEquals(List.of(brunch, lunch),
+                modelManager.getEventsBetween(LocalDate.of(2099, 1, 8), LocalDate.of(2099, 12, 31)));
+
+        // start after end -> empty
+        assertTrue(modelManager.getEventsBetween(LocalDate.of(2099, 1, 7), LocalDate.of(2099, 1, 1)).isEmpty());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_keywordPredicate_tracksPersonChanges() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameAndTagContainsKeywordsPredicate(List.of("husband")));
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+
+        Person editedBenson = new PersonBuilder(BENSON).withTags("husband").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(List.of(editedBenson), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(editedBenson);
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void getFilteredPersonList_filterChanged_sortedByName() {
+        modelManager.addPerson(CARL);
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        assertEquals(List.of(ALICE, BENSON, CARL), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(new NameAndTagContainsKeywordsPredicate(List.of("carl", "alice")));
+        assertEquals(List.of(ALICE, CARL), modelManager.getFilteredPersonList());
+
+        // An equal filter leaves the list as it is
+        modelManager.updateFilteredPersonList(new NameAndTagContainsKeywordsPredicate(List.of("carl", "alice")));
+        assertEquals(List.of(ALICE, CARL), modelManager.getFilteredPersonList());
+
+        Person editedCarl = new PersonBuilder(CARL).withName("Aaron Carl").build();
+        modelManager.setPerson(CARL, editedCarl);
+        assertEquals(List.of(editedCarl, ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(List.of(editedCarl, ALICE, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void commitBatch_changesInBatch_singleChangeToFilteredList() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        List<Integer> changeCount = new ArrayList<>();
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> changeCount.add(1));
+
+        modelManager.beginBatch();
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("11111111").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.deletePerson(BENSON);
+        modelManager.addPerson(CARL);
+        assertEquals(0, changeCount.size());
+        modelManager.commitBatch();
+
+        assertEquals(1, changeCount.size());
+        assertEquals(List.of(editedAlice, CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void undo_multipleChanges_singleChangeToFilteredList() {
+        modelManager.addPerson(ALICE);
+        modelManager.saveStateForUndo("edit");
+        modelManager.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("11111111").build());
+        modelManager.addPerson(BENSON);
+        List<Integer> changeCount = new ArrayList<>();
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> changeCount.add(1));
+
+        modelManager.undo();
+        assertEquals(1, changeCount.size());
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -193,4 +355,110 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
         assertFalse(modelManager.hasPerson(BENSON));
     }
+
+    @Test
+    public void undo_multipleOperations_undoesInReverseOrder() {
+        modelManager.saveStateForUndo("add alice");
+        modelManager.addPerson(ALICE);
+        modelManager.saveStateForUndo("add benson");
+        modelManager.addPerson(BENSON);
+
+        assertEquals("add benson", modelManager.undo());
+        assertTrue(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.hasPerson(BENSON));
+
+        assertEquals("add alice", modelManager.undo());
+        assertFalse(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.canUndo());
+    }
+
+    @Test
+    public void saveStateForUndo_previousOperationChangedNothing_replacesPreviousState() {
+        modelManager.saveStateForUndo("add alice");
+        modelManager.addPerson(ALICE);
+        modelManager.saveStateForUndo("failed operation");
+        modelManager.saveStateForUndo("add benson");
+        modelManager.addPerson(BENSON);
+
+        assertEquals("add benson", modelManager.undo());
+        assertEquals("add alice", modelManager.undo());
+        assertFalse(modelManager.canUndo());
+    }
+
+    @Test
+    public void saveStateForUndo_exceedsHistoryLimit_dropsOldestState() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryLimit(2);
+        modelManager = new ModelManager(new AddressBook(), userPrefs);
+
+        modelManager.saveStateForUndo("add alice");
+        modelManager.addPerson(ALICE);
+        modelManager.saveStateForUndo("add benson");
+        modelManager.addPerson(BENSON);
+        modelManager.saveStateForUndo("add carl");
+        modelManager.addPerson(CARL);
+
+        assertEquals("add carl", modelManager.undo());
+        assertEquals("add benson", modelManager.undo());
+        assertFalse(modelManager.canUndo());
+        assertEquals(List.of(ALICE), modelManager.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void redo_afterUndo_reappliesChangesInPlace() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.saveStateForUndo("edit and delete");
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.deletePerson(BENSON);
+        AddressBook afterOperation = new AddressBook(modelManager.getAddressBook());
+
+        assertEquals("edit and delete", modelManager.undo());
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                modelManager.getAddressBook());
+        assertTrue(modelManager.canRedo());
+
+        assertEquals("edit and delete", modelManager.redo());
+        assertEquals(afterOperation, modelManager.getAddressBook());
+        assertFalse(modelManager.canRedo());
+        assertTrue(modelManager.canUndo());
+    }
+
+    @Test
+    public void redo_bulkReplacement_restoresReplacedContents() {
+        modelManager.addPerson(ALICE);
+        modelManager.addEvent(new EventBuilder().withParticipants(ALICE.getId()).build());
+        AddressBook beforeClear = new AddressBook(modelManager.getAddressBook());
+        modelManager.saveStateForUndo("clear all");
+        modelManager.setAddressBook(new AddressBook());
+
+        modelManager.undo();
+        assertEquals(beforeClear, modelManager.getAddressBook());
+
+        modelManager.redo();
+        assertEquals(new AddressBook(), modelManager.getAddressBook());
+    }
+
+    @Test
+    public void setAddressBook_noOperationBegun_notRecorded() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        modelManager.setAddressBook(addressBook);
+
+        assertEquals(addressBook, modelManager.getAddressBook());
+        assertFalse(modelManager.canUndo());
+    }
+
+    @Test
+    public void saveStateForUndo_afterUndo_discardsRedo() {
+        modelManager.saveStateForUndo("add alice");
+        modelManager.addPerson(ALICE);
+        modelManager.undo();
+
+        modelManager.saveStateForUndo("add benson");
+        modelManager.addPerson(BENSON);
+
+        assertFalse(modelManager.canRedo());
+        assertEquals("No operation to redo", modelManager.redo());
+    }
 }
@@ -18,4 +18,17 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setAddressBookFileFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFileFormat(null));
+    }
+
+    @Test
+    public void setUndoHistoryLimit_nonPositiveLimit_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, UserPrefs.MESSAGE_UNDO_HISTORY_LIMIT_CONSTRAINTS, () ->
+                userPrefs.setUndoHistoryLimit(0));
+    }
+
 }
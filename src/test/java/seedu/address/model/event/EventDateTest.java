@@ -1,5 +1,6 @@
 package seedu.address.model.event;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -53,6 +54,26 @@ public class EventDateTest {
         }
     }
 
+    @Test
+    public void toLocalDate() {
+        assertEquals(LocalDate.of(2024, 2, 29), new EventDate("29-02-2024").toLocalDate());
+    }
+
+    @Test
+    public void isInPast() {
+        DateTimeFormatter f = DateTimeFormatter.ofPattern("dd-MM-uuuu");
+        assertTrue(new EventDate(LocalDate.now().minusDays(1).format(f)).isInPast(new EventTime("23:59")));
+        assertFalse(new EventDate(LocalDate.now().plusDays(1).format(f)).isInPast(new EventTime("00:00")));
+        assertTrue(new EventDate("01-01-2000").isInPast(new EventTime("0:00")));
+    }
+
+    @Test
+    public void compareTo_chronologicalOrder() {
+        assertTrue(new EventDate("31-12-2029").compareTo(new EventDate("01-01-2030")) < 0);
+        assertTrue(new EventDate("02-01-2030").compareTo(new EventDate("01-02-2029")) > 0);
+        assertEquals(0, new EventDate("01-01-2030").compareTo(new EventDate("01-01-2030")));
+    }
+
     @Test
     public void constructor_validDate_success() {
         DateTimeFormatter f = DateTimeFormatter.ofPattern("dd-MM-uuuu");
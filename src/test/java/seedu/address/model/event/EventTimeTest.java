@@ -0,0 +1,45 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+
+public class EventTimeTest {
+
+    @Test
+    public void constructor_invalidTime_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> new EventTime(null));
+        assertThrows(IllegalArgumentException.class, () -> new EventTime("24:00"));
+        assertThrows(IllegalArgumentException.class, () -> new EventTime("12:60"));
+    }
+
+    @Test
+    public void toLocalTime() {
+        assertEquals(LocalTime.of(9, 5), new EventTime("9:05").toLocalTime());
+        assertEquals(LocalTime.of(23, 59), new EventTime("23:59").toLocalTime());
+        assertEquals("9:05", new EventTime("9:05").value);
+    }
+
+    @Test
+    public void compareTo_chronologicalOrder() {
+        assertTrue(new EventTime("9:00").compareTo(new EventTime("10:00")) < 0);
+        assertTrue(new EventTime("23:00").compareTo(new EventTime("22:59")) > 0);
+    }
+
+    @Test
+    public void equals() {
+        EventTime time = new EventTime("09:05");
+
+        assertTrue(time.equals(time));
+        assertTrue(time.equals(new EventTime("9:05")));
+        assertEquals(time.hashCode(), new EventTime("9:05").hashCode());
+        assertFalse(time.equals(null));
+        assertFalse(time.equals("09:05"));
+        assertFalse(time.equals(new EventTime("09:06")));
+    }
+}
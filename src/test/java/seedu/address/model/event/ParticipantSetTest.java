@@ -0,0 +1,108 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersonId;
+
+public class ParticipantSetTest {
+
+    private static final PersonId ID_A = new PersonId(new UUID(-5, 3));
+    private static final PersonId ID_B = new PersonId(new UUID(0, -1));
+    private static final PersonId ID_C = new PersonId(new UUID(0, 7));
+    private static final PersonId ID_D = new PersonId(new UUID(42, 0));
+
+    @Test
+    public void copyOf_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ParticipantSet.copyOf(null));
+        assertThrows(NullPointerException.class, () -> ParticipantSet.copyOf(Arrays.asList(ID_A, null)));
+    }
+
+    @Test
+    public void copyOf_duplicatesAndUnsorted_returnsSortedDistinctIds() {
+        ParticipantSet set = ParticipantSet.copyOf(List.of(ID_D, ID_B, ID_A, ID_B, ID_C));
+        assertEquals(4, set.size());
+        assertEquals(List.of(ID_A, ID_B, ID_C, ID_D), new ArrayList<>(set));
+    }
+
+    @Test
+    public void copyOf_participantSet_returnsSameInstance() {
+        ParticipantSet set = ParticipantSet.copyOf(List.of(ID_A, ID_B));
+        assertSame(set, ParticipantSet.copyOf(set));
+        assertSame(ParticipantSet.empty(), ParticipantSet.copyOf(List.of()));
+    }
+
+    @Test
+    public void contains() {
+        ParticipantSet set = ParticipantSet.copyOf(List.of(ID_A, ID_C, ID_D));
+        assertTrue(set.contains(ID_A));
+        assertTrue(set.contains(new PersonId(ID_C.toString())));
+        assertTrue(set.contains(ID_D));
+        assertFalse(set.contains(ID_B));
+        assertFalse(ParticipantSet.empty().contains(ID_A));
+        assertFalse(set.contains((Object) "not a person id"));
+    }
+
+    @Test
+    public void withAll_mergesIds() {
+        ParticipantSet set = ParticipantSet.copyOf(List.of(ID_A, ID_C));
+        ParticipantSet merged = set.withAll(List.of(ID_D, ID_B, ID_C));
+        assertEquals(List.of(ID_A, ID_B, ID_C, ID_D), new ArrayList<>(merged));
+
+        // original set is unchanged
+        assertEquals(List.of(ID_A, ID_C), new ArrayList<>(set));
+    }
+
+    @Test
+    public void with_unchanged_returnsSameInstance() {
+        ParticipantSet set = ParticipantSet.copyOf(List.of(ID_A, ID_C));
+        assertSame(set, set.with(ID_A));
+        assertSame(set, set.withAll(List.of()));
+        assertSame(set, set.without(ID_B));
+        assertSame(set, set.withoutAll(List.of(ID_B, ID_D)));
+    }
+
+    @Test
+    public void withoutAll_removesIds() {
+        ParticipantSet set = ParticipantSet.copyOf(List.of(ID_A, ID_B, ID_C, ID_D));
+        assertEquals(List.of(ID_A, ID_D), new ArrayList<>(set.withoutAll(List.of(ID_B, ID_C))));
+        assertEquals(List.of(ID_B, ID_C, ID_D), new ArrayList<>(set.without(ID_A)));
+        assertSame(ParticipantSet.empty(), set.withoutAll(set));
+    }
+
+    @Test
+    public void add_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> ParticipantSet.empty().add(ID_A));
+    }
+
+    @Test
+    public void equals() {
+        ParticipantSet set = ParticipantSet.copyOf(List.of(ID_A, ID_B));
+
+        // same ids in a different order -> returns true
+        assertEquals(set, ParticipantSet.copyOf(List.of(ID_B, ID_A)));
+
+        // same ids in another set implementation -> returns true
+        Set<PersonId> hashSet = new HashSet<>(List.of(ID_A, ID_B));
+        assertEquals(set, hashSet);
+        assertEquals(hashSet, set);
+        assertEquals(hashSet.hashCode(), set.hashCode());
+
+        // different ids -> returns false
+        assertNotEquals(set, ParticipantSet.copyOf(List.of(ID_A, ID_C)));
+        assertNotEquals(set, ParticipantSet.empty());
+    }
+}
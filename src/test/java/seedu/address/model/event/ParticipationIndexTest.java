@@ -0,0 +1,73 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.EventBuilder;
+
+public class ParticipationIndexTest {
+
+    private final ParticipationIndex index = new ParticipationIndex();
+
+    @Test
+    public void getEventsOf_nullPersonId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.getEventsOf(null));
+    }
+
+    @Test
+    public void getEventsOf_personWithoutEvents_returnsEmptyList() {
+        index.add(new EventBuilder().withParticipants(BENSON.getId()).build());
+        assertTrue(index.getEventsOf(ALICE.getId()).isEmpty());
+    }
+
+    @Test
+    public void add_multipleEvents_indexesBothDirections() {
+        Event party = new EventBuilder().withName("Party").withParticipants(ALICE.getId()).build();
+        Event dinner = new EventBuilder().withName("Dinner").withParticipants(ALICE.getId(), BENSON.getId()).build();
+        index.add(party);
+        index.add(dinner);
+        assertEquals(List.of(party, dinner), index.getEventsOf(ALICE.getId()));
+        assertEquals(List.of(dinner), index.getEventsOf(BENSON.getId()));
+        assertEquals(Set.of(ALICE.getId(), BENSON.getId()), index.getParticipantsOf(dinner));
+    }
+
+    @Test
+    public void remove_indexedEvent_removesFromBothDirections() {
+        Event party = new EventBuilder().withParticipants(ALICE.getId(), BENSON.getId()).build();
+        index.add(party);
+        index.remove(party);
+        assertTrue(index.getEventsOf(ALICE.getId()).isEmpty());
+        assertTrue(index.getParticipantsOf(party).isEmpty());
+    }
+
+    @Test
+    public void remove_eventNotIndexed_doesNothing() {
+        Event party = new EventBuilder().withName("Party").withParticipants(ALICE.getId()).build();
+        index.add(party);
+        index.remove(new EventBuilder().withName("Dinner").withParticipants(ALICE.getId()).build());
+        assertEquals(List.of(party), index.getEventsOf(ALICE.getId()));
+    }
+
+    @Test
+    public void getEventsOf_modifyReturnedList_doesNotAffectIndex() {
+        Event party = new EventBuilder().withParticipants(ALICE.getId()).build();
+        index.add(party);
+        index.getEventsOf(ALICE.getId()).clear();
+        assertEquals(List.of(party), index.getEventsOf(ALICE.getId()));
+    }
+
+    @Test
+    public void getParticipantsOf_modifyReturnedSet_throwsUnsupportedOperationException() {
+        Event party = new EventBuilder().withParticipants(ALICE.getId()).build();
+        index.add(party);
+        assertThrows(UnsupportedOperationException.class, () -> index.getParticipantsOf(party).clear());
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class BudgetTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Budget(null));
+    }
+
+    @Test
+    public void constructor_invalidBudget_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Budget("1.005"));
+        assertThrows(IllegalArgumentException.class, () -> new Budget("-1"));
+    }
+
+    @Test
+    public void constructor_validBudget_exactCents() {
+        assertEquals(0, new Budget("0").getCents());
+        assertEquals(500, new Budget("5").getCents());
+        assertEquals(550, new Budget("5.5").getCents());
+        assertEquals(505, new Budget("5.05").getCents());
+        assertEquals(1200, new Budget("0012").getCents());
+        assertEquals(Budget.MAX_CENTS, new Budget("9999999.99").getCents());
+    }
+
+    @Test
+    public void value_twoDecimalPlaces() {
+        assertEquals("0.00", new Budget("0").value);
+        assertEquals("5.50", new Budget("5.5").value);
+        assertEquals("0.05", Budget.ofCents(5).value);
+        assertEquals("1234567.89", Budget.ofCents(123456789).value);
+    }
+
+    @Test
+    public void ofCents() {
+        assertSame(Budget.ZERO, Budget.ofCents(0));
+        assertEquals(new Budget("0.3"), Budget.ofCents(new Budget("0.1").getCents() + new Budget("0.2").getCents()));
+        assertThrows(IllegalArgumentException.class, () -> Budget.ofCents(-1));
+        assertThrows(IllegalArgumentException.class, () -> Budget.ofCents(Budget.MAX_CENTS + 1));
+    }
+
+    @Test
+    public void isValidBudget() {
+        assertFalse(Budget.isValidBudget(""));
+        assertFalse(Budget.isValidBudget("12345678"));
+        assertFalse(Budget.isValidBudget("1."));
+        assertTrue(Budget.isValidBudget("1234567.89"));
+        assertTrue(Budget.isValidBudget("0"));
+    }
+
+    @Test
+    public void equals() {
+        Budget budget = new Budget("10");
+
+        assertTrue(budget.equals(new Budget("10.00")));
+        assertTrue(budget.equals(budget));
+        assertFalse(budget.equals(null));
+        assertFalse(budget.equals(5.0f));
+        assertFalse(budget.equals(new Budget("10.01")));
+        assertEquals(budget.hashCode(), new Budget("10.0").hashCode());
+    }
+}
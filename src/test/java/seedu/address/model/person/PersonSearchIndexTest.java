@@ -0,0 +1,109 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private static final List<List<String>> KEYWORD_LISTS = List.of(List.of("alice"), List.of("ALI"),
+            List.of("ice", "meier"), List.of("nde"), List.of("friends"), List.of("OWES"), List.of("el"),
+            List.of("e"), List.of("xyz"), List.of("xyz", "kurz"), List.of("  pauline "), List.of("lice pa"));
+
+    @Test
+    public void narrow_sameResultAsKeywordPredicate() {
+        PersonSearchIndex index = new PersonSearchIndex();
+        getTypicalPersons().forEach(index::add);
+
+        for (List<String> keywords : KEYWORD_LISTS) {
+            NameAndTagContainsKeywordsPredicate predicate = new NameAndTagContainsKeywordsPredicate(keywords);
+            Predicate<Person> narrowed = index.narrow(predicate);
+            for (Person person : getTypicalPersons()) {
+                assertEquals(predicate.test(person), narrowed.test(person), keywords + " " + person);
+            }
+        }
+    }
+
+    @Test
+    public void narrow_indexModified_candidatesUpdated() {
+        PersonSearchIndex index = new PersonSearchIndex();
+        index.add(ALICE);
+        Predicate<Person> narrowed = index.narrow(new NameAndTagContainsKeywordsPredicate(List.of("husband")));
+        Person husband = new PersonBuilder(HOON).withTags("husband").build();
+        assertFalse(narrowed.test(husband));
+
+        index.add(husband);
+        assertTrue(narrowed.test(husband));
+
+        index.remove(husband);
+        assertFalse(narrowed.test(husband));
+    }
+
+    @Test
+    public void add_storedPerson_tagsDecodedOnFirstSearch() {
+        List<String> decoded = new ArrayList<>();
+        Person stored = new Person(ALICE.getId(), ALICE.getName(), new Person.StoredFields() {
+            @Override
+            public Phone getPhone() {
+                return ALICE.getPhone();
+            }
+
+            @Override
+            public Email getEmail() {
+                return ALICE.getEmail();
+            }
+
+            @Override
+            public Website getWebsite() {
+                return ALICE.getWebsite();
+            }
+
+            @Override
+            public Set<Tag> getTags() {
+                decoded.add("tags");
+                return ALICE.getTags();
+            }
+
+            @Override
+            public Budget getBudget() {
+                return ALICE.getBudget();
+            }
+        });
+
+        PersonSearchIndex index = new PersonSearchIndex();
+        index.add(stored);
+        Predicate<Person> narrowed = index.narrow(new NameAndTagContainsKeywordsPredicate(List.of("friends")));
+        assertTrue(decoded.isEmpty());
+
+        assertTrue(narrowed.test(stored));
+        assertEquals(List.of("tags"), decoded);
+    }
+
+    @Test
+    public void remove_sharedTrigrams_otherPersonsKept() {
+        PersonSearchIndex index = new PersonSearchIndex();
+        index.add(ALICE);
+        index.add(BENSON);
+        Predicate<Person> narrowed = index.narrow(new NameAndTagContainsKeywordsPredicate(List.of("friends")));
+
+        index.remove(ALICE);
+        assertTrue(narrowed.test(BENSON));
+
+        index.clear();
+        assertFalse(narrowed.test(BENSON));
+    }
+}
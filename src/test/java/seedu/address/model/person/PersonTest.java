@@ -13,8 +13,13 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -25,6 +30,58 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void storedFields_decodedOnFirstAccessOnly() {
+        List<String> decoded = new ArrayList<>();
+        Person person = new Person(ALICE.getId(), ALICE.getName(), new Person.StoredFields() {
+            @Override
+            public Phone getPhone() {
+                decoded.add("phone");
+                return ALICE.getPhone();
+            }
+
+            @Override
+            public Email getEmail() {
+                decoded.add("email");
+                return ALICE.getEmail();
+            }
+
+            @Override
+            public Website getWebsite() {
+                decoded.add("website");
+                return ALICE.getWebsite();
+            }
+
+            @Override
+            public Set<Tag> getTags() {
+                decoded.add("tags");
+                return ALICE.getTags();
+            }
+
+            @Override
+            public Budget getBudget() {
+                decoded.add("budget");
+                return ALICE.getBudget();
+            }
+        });
+
+        assertEquals(ALICE.getName(), person.getName());
+        assertTrue(decoded.isEmpty());
+
+        assertEquals(ALICE.getPhone(), person.getPhone());
+        assertEquals(ALICE.getPhone(), person.getPhone());
+        assertEquals(List.of("phone"), decoded);
+
+        assertEquals(ALICE, person);
+        assertEquals(ALICE.hashCode(), person.hashCode());
+        assertEquals(List.of("phone", "email", "website", "tags", "budget"), decoded);
+        assertThrows(UnsupportedOperationException.class, () -> person.getTags().clear());
+
+        // Still the same fields once the stored fields have been dropped
+        assertEquals(ALICE, person);
+        assertEquals(5, decoded.size());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
@@ -12,6 +12,7 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -47,6 +48,22 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithDifferentCaseNameInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person upperCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(upperCaseAlice));
+    }
+
+    @Test
+    public void contains_personRemovedFromList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.remove(BOB);
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -162,6 +179,56 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void getPersonById_nullId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.getPersonById(null));
+    }
+
+    @Test
+    public void getPersonById_personNotInList_returnsEmpty() {
+        assertEquals(Optional.empty(), uniquePersonList.getPersonById(ALICE.getId()));
+    }
+
+    @Test
+    public void getPersonById_afterAdd_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.of(ALICE), uniquePersonList.getPersonById(ALICE.getId()));
+    }
+
+    @Test
+    public void getPersonById_afterSetPerson_returnsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withWebsite(VALID_WEBSITE_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Optional.of(editedAlice), uniquePersonList.getPersonById(ALICE.getId()));
+
+        uniquePersonList.setPerson(editedAlice, BOB);
+        assertEquals(Optional.empty(), uniquePersonList.getPersonById(ALICE.getId()));
+        assertEquals(Optional.of(BOB), uniquePersonList.getPersonById(BOB.getId()));
+    }
+
+    @Test
+    public void getPersonById_afterRemove_returnsEmpty() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertEquals(Optional.empty(), uniquePersonList.getPersonById(ALICE.getId()));
+    }
+
+    @Test
+    public void getPersonById_afterSetPersons_reflectsReplacement() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertEquals(Optional.empty(), uniquePersonList.getPersonById(ALICE.getId()));
+        assertEquals(Optional.of(BOB), uniquePersonList.getPersonById(BOB.getId()));
+    }
+
+    @Test
+    public void setPersons_listWithSameIdentityPersons_throwsDuplicatePersonException() {
+        Person editedAlice = new PersonBuilder(ALICE).withWebsite(VALID_WEBSITE_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, editedAlice);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
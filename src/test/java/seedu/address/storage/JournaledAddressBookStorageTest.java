@@ -0,0 +1,185 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.LUNCH;
+import static seedu.address.testutil.TypicalEvents.WORKSHOP;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("missing.json"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changes_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+        long journalSize = Files.size(JournaledAddressBookStorage.getJournalFilePath(filePath));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("99999999").build());
+        original.addEvent(WORKSHOP);
+        storage.saveAddressBook(original);
+
+        // Only the journal is written to
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(4 + 1, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertFalse(journalSize == Files.size(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+
+        assertEquals(original, readAddressBook(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_insertedAndEditedEvents_replayedInOrder() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        original.addEvent(LUNCH);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        Event editedLunch = new EventBuilder(LUNCH).withTime("13:00").build();
+        original.setEvent(LUNCH, editedLunch);
+        original.addEvent(0, WORKSHOP);
+        storage.saveAddressBook(original);
+
+        assertEquals(original, readAddressBook(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_continuesJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JournaledAddressBookStorage(filePath).saveAddressBook(original);
+        original.addPerson(HOON);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.readAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+
+        assertEquals(3, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(original, readAddressBook(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_thresholdExceeded_compactsJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1);
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(2, Files.readAllLines(journalPath).size());
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, readAddressBook(filePath));
+    }
+
+    @Test
+    public void readAddressBook_journalOfOtherSnapshot_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // Snapshot replaced without updating the journal
+        AddressBook replacement = getTypicalAddressBook();
+        replacement.addPerson(IDA);
+        new JsonAddressBookStorage(filePath).saveAddressBook(replacement);
+        assertEquals(replacement, readAddressBook(filePath));
+    }
+
+    @Test
+    public void readAddressBook_snapshotEditedByHand_journalDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+
+        // Edits made by hand keep the stored checksum of the data as it was written
+        AddressBook edited = getTypicalAddressBook();
+        edited.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("99999999").build());
+        Files.writeString(filePath, Files.readString(filePath).replace(BENSON.getPhone().value, "99999999"));
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath);
+        assertEquals(edited, new AddressBook(reopened.readAddressBook().get()));
+
+        // The next save starts over from a fresh snapshot instead of appending to the discarded journal
+        edited.addPerson(IDA);
+        reopened.saveAddressBook(edited);
+        assertEquals(1, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(edited, readAddressBook(filePath));
+    }
+
+    @Test
+    public void readAddressBook_tornRecord_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.writeString(JournaledAddressBookStorage.getJournalFilePath(filePath), "{\"action\":\"PUT_PE",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(reopened.readAddressBook().get()));
+
+        // The next save starts over from a fresh snapshot instead of appending to the damaged journal
+        original.addPerson(IDA);
+        reopened.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(original, readAddressBook(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("addressBook.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    private static AddressBook readAddressBook(Path filePath) throws Exception {
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        return new AddressBook(readBack);
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.BIRTHDAY_PARTY;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+public class JsonAddressBookReaderTest {
+
+    @Test
+    public void read_writtenAddressBook_sameDataAndChecksum() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.addEvent(BIRTHDAY_PARTY);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        String checksum = JsonAddressBookWriter.write(original, out);
+
+        JsonAddressBookReader reader = read(out.toString(StandardCharsets.UTF_8));
+        assertEquals(original, reader.getAddressBook());
+        assertEquals(checksum, reader.getStoredChecksum());
+        assertEquals(checksum, reader.getComputedChecksum());
+        reader.validateIntegrityOrThrow();
+    }
+
+    @Test
+    public void read_eventsBeforePersons_noComputedChecksum() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.addEvent(BIRTHDAY_PARTY);
+        Map<String, Object> eventsFirst = new LinkedHashMap<>();
+        eventsFirst.put("events", List.of(new JsonAdaptedEvent(BIRTHDAY_PARTY)));
+        eventsFirst.put("persons", original.getPersonList().stream().map(JsonAdaptedPerson::new)
+                .collect(Collectors.toList()));
+        String json = JsonUtil.toJsonString(eventsFirst);
+
+        JsonAddressBookReader reader = read(json);
+        assertEquals(original, reader.getAddressBook());
+        assertNull(reader.getComputedChecksum());
+    }
+
+    @Test
+    public void read_missingLists_emptyAddressBook() throws Exception {
+        JsonAddressBookReader reader = read("{\"other\": {\"persons\": [1]}}");
+        assertEquals(new AddressBook(), reader.getAddressBook());
+        assertEquals(JsonAddressBookWriter.write(new AddressBook(), new ByteArrayOutputStream()),
+                reader.getComputedChecksum());
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() throws Exception {
+        String json = JsonUtil.toJsonString(Map.of("persons",
+                List.of(new JsonAdaptedPerson(ALICE), new JsonAdaptedPerson(ALICE))));
+        assertThrows(IllegalValueException.class, JsonAddressBookReader.MESSAGE_DUPLICATE_PERSON, () -> read(json));
+    }
+
+    @Test
+    public void read_duplicateEvents_throwsIllegalValueException() throws Exception {
+        String json = JsonUtil.toJsonString(Map.of("events",
+                List.of(new JsonAdaptedEvent(BIRTHDAY_PARTY), new JsonAdaptedEvent(BIRTHDAY_PARTY))));
+        assertThrows(IllegalValueException.class, JsonAddressBookReader.MESSAGE_DUPLICATE_EVENT, () -> read(json));
+    }
+
+    @Test
+    public void read_emptyEntry_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonAddressBookReader.MESSAGE_EMPTY_ENTRY, () ->
+                read("{\"persons\": [null]}"));
+    }
+
+    @Test
+    public void read_notAnObject_throwsIoException() {
+        assertThrows(IOException.class, () -> read("[]"));
+        assertThrows(IOException.class, () -> read("{\"persons\": 1}"));
+    }
+
+    private static JsonAddressBookReader read(String json) throws Exception {
+        return JsonAddressBookReader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
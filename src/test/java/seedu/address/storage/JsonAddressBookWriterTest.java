@@ -0,0 +1,52 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.BIRTHDAY_PARTY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+public class JsonAddressBookWriterTest {
+
+    @Test
+    public void write_addressBook_checksumOfPersonsAndEvents() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addEvent(BIRTHDAY_PARTY);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        String checksum = JsonAddressBookWriter.write(addressBook, out);
+
+        // Same checksum as hashing the JSON of an object with only the persons and events
+        Map<String, Object> personsAndEvents = new LinkedHashMap<>();
+        personsAndEvents.put("persons", addressBook.getPersonList().stream().map(JsonAdaptedPerson::new)
+                .collect(Collectors.toList()));
+        personsAndEvents.put("events", addressBook.getEventList().stream().map(JsonAdaptedEvent::new)
+                .collect(Collectors.toList()));
+        byte[] hash = MessageDigest.getInstance("SHA-256")
+                .digest(JsonUtil.toJsonString(personsAndEvents).getBytes(StandardCharsets.UTF_8));
+        assertEquals(String.format("%064x", new BigInteger(1, hash)), checksum);
+    }
+
+    @Test
+    public void write_emptyAddressBook_sameChecksumAsComputed() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        String checksum = JsonAddressBookWriter.write(new AddressBook(), out);
+        assertEquals(new AddressBookChecksum().getChecksum(), checksum);
+    }
+
+    @Test
+    public void write_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> JsonAddressBookWriter.write(null, new ByteArrayOutputStream()));
+    }
+}
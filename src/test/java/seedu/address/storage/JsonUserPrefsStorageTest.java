@@ -14,6 +14,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.DataFileFormat;
 import seedu.address.model.UserPrefs;
 
 public class JsonUserPrefsStorageTest {
@@ -70,6 +71,22 @@ public class JsonUserPrefsStorageTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void readUserPrefs_invalidValuesInFile_defaultValuesUsed() throws DataLoadingException {
+        UserPrefs expected = getTypicalUserPrefs();
+        UserPrefs actual = readUserPrefs("InvalidValuesUserPref.json").get();
+
+        assertEquals(expected, actual);
+        assertEquals(UserPrefs.DEFAULT_UNDO_HISTORY_LIMIT, new UserPrefs(actual).getUndoHistoryLimit());
+    }
+
+    @Test
+    public void readUserPrefs_nullFileFormat_jsonFormatUsed() throws DataLoadingException {
+        UserPrefs actual = readUserPrefs("NullFormatUserPref.json").get();
+        assertEquals(getTypicalUserPrefs(), actual);
+        assertEquals(DataFileFormat.JSON, actual.getAddressBookFileFormat());
+    }
+
     private UserPrefs getTypicalUserPrefs() {
         UserPrefs userPrefs = new UserPrefs();
         userPrefs.setGuiSettings(new GuiSettings(1000, 500, 300, 100));
@@ -0,0 +1,104 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.BUDGET_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.WEBSITE_DESC_AMY;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class CommandRunnerTest {
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager();
+    private Logic logic;
+    private CommandRunner runner;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+        // Runs the updates of the shown lists on the background thread, as there is no JavaFX application thread
+        runner = new CommandRunner(logic, message -> { }, Runnable::run);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        runner.stop();
+    }
+
+    @Test
+    public void run_modifyingCommand_shownListsUpdated() throws Exception {
+        CommandResult result = runner.run(() -> logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY
+                + PHONE_DESC_AMY + EMAIL_DESC_AMY + WEBSITE_DESC_AMY + BUDGET_DESC_AMY))
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertFalse(result.isExit());
+        assertFalse(runner.isRunning());
+        assertEquals(model.getFilteredPersonList(), runner.getShownPersonList());
+    }
+
+    @Test
+    public void run_commandThrowsError_runnerStillUsable() throws Exception {
+        assertThrows(ExecutionException.class, () -> runner.run(() -> {
+            throw new AssertionError("Command failed an assertion");
+        }).get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertFalse(runner.isRunning());
+
+        CommandResult result = runner.run(() -> logic.execute(ListCommand.COMMAND_WORD))
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals(ListCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void runLater_commandRunning_runAfterCommand() throws Exception {
+        List<String> order = new CopyOnWriteArrayList<>();
+        CountDownLatch commandStarted = new CountDownLatch(1);
+        CountDownLatch commandReleased = new CountDownLatch(1);
+        CompletableFuture<CommandResult> result = runner.run(() -> {
+            commandStarted.countDown();
+            commandReleased.await();
+            order.add("command");
+            return logic.execute(ListCommand.COMMAND_WORD);
+        });
+        commandStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        runner.runLater(() -> order.add("task"));
+        commandReleased.countDown();
+
+        result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertTrue(runner.stop());
+        assertEquals(List.of("command", "task"), order);
+    }
+}